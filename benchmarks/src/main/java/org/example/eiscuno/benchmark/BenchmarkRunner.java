@@ -0,0 +1,32 @@
+package org.example.eiscuno.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark of this module with the GC profiler, so each result reports
+ * throughput together with the allocation rate ({@code gc.alloc.rate.norm} is the number
+ * of bytes allocated per operation).
+ * <p>
+ * An optional argument is a regular expression selecting the benchmarks to run, e.g.
+ * {@code RulesBenchmark}. The plain JMH command line is also available through
+ * {@code java -jar benchmarks/target/benchmarks.jar -prof gc}.
+ * </p>
+ */
+public class BenchmarkRunner {
+
+    /**
+     * @param args an optional regular expression selecting the benchmarks to run
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "org.example.eiscuno.benchmark.*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
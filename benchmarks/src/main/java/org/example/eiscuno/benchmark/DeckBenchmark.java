@@ -0,0 +1,63 @@
+package org.example.eiscuno.benchmark;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building a {@link Deck}, resetting it and taking cards from it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck();
+    }
+
+    /**
+     * Builds and shuffles a complete deck.
+     */
+    @Benchmark
+    public Deck newDeck() {
+        return new Deck();
+    }
+
+    /**
+     * Refills and reshuffles the same deck in place, as for a new game.
+     */
+    @Benchmark
+    public Deck resetDeck() {
+        deck.reset();
+        return deck;
+    }
+
+    /**
+     * Takes one card, resetting the deck once every card has been taken.
+     */
+    @Benchmark
+    public Card takeCard() {
+        if (deck.isEmpty()) {
+            deck.reset();
+        }
+        return deck.takeCard();
+    }
+}
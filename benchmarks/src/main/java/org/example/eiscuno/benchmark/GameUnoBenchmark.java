@@ -0,0 +1,56 @@
+package org.example.eiscuno.benchmark;
+
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for drawing cards in a {@link GameUno}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameUnoBenchmark {
+
+    private GameUno gameUno;
+    private Player humanPlayer;
+
+    @Setup
+    public void setUp() {
+        newGame();
+    }
+
+    private void newGame() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        gameUno = new GameUno(humanPlayer, new Player("MACHINE_PLAYER"), new Deck(), new Table());
+        gameUno.startGame();
+    }
+
+    /**
+     * Draws one card, starting a new game once the deck is empty.
+     */
+    @Benchmark
+    public Player eatCard() {
+        if (gameUno.getDeck().isEmpty()) {
+            newGame();
+        }
+        gameUno.eatCard(humanPlayer, 1);
+        return humanPlayer;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.eiscuno.benchmark;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+import org.example.eiscuno.model.table.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the move validation used by the machine player
+ * ({@code ThreadPlayMachine.findPlayableCard}) and by the human plays.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RulesBenchmark {
+
+    @Param({"7", "30"})
+    public int handSize;
+
+    private Player player;
+    private Table table;
+    private Card cardToPlay;
+
+    @Setup
+    public void setUp() {
+        Deck deck = new Deck();
+        player = new Player("MACHINE_PLAYER");
+        table = new Table();
+        table.addCardOnTheTable(deck.takeCard());
+        for (int i = 0; i < handSize; i++) {
+            player.addCard(deck.takeCard());
+        }
+        cardToPlay = player.getCard(handSize - 1);
+    }
+
+    /**
+     * Scans the hand for the first playable card, as the machine does on every turn.
+     */
+    @Benchmark
+    public Card findPlayableCard() {
+        return UnoRulesEngine.findPlayableCard(player, table);
+    }
+
+    /**
+     * Validates a single play against the card on the table.
+     */
+    @Benchmark
+    public boolean validatePlay() {
+        return UnoRulesEngine.isValidPlay(cardToPlay, table.getCurrentCardOnTheTable(), table.getActiveColorCode());
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.eiscuno.benchmark;
+
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.save.GameSnapshotReader;
+import org.example.eiscuno.model.save.GameSnapshotWriter;
+import org.example.eiscuno.model.table.Table;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for saving and loading a whole {@link GameUno}, as the controller does on
+ * close and on start. Java serialization is kept as the baseline of the binary snapshot.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SaveLoadBenchmark {
+
+    private GameUno gameUno;
+    private byte[] savedGame;
+    private byte[] savedSnapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        Deck deck = new Deck();
+        Table table = new Table();
+        gameUno = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"), deck, table);
+        gameUno.startGame();
+        table.addCardOnTheTable(deck.takeCard());
+        savedGame = save();
+        savedSnapshot = saveSnapshot();
+    }
+
+    /**
+     * Serializes the game with {@link ObjectOutputStream}.
+     */
+    @Benchmark
+    public byte[] save() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(gameUno);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes the game with {@link ObjectInputStream}.
+     */
+    @Benchmark
+    public GameUno load() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(savedGame))) {
+            return (GameUno) ois.readObject();
+        }
+    }
+
+    /**
+     * Writes the game with the {@link GameSnapshotWriter}.
+     */
+    @Benchmark
+    public byte[] saveSnapshot() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        new GameSnapshotWriter(bytes).write(gameUno);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the game with the {@link GameSnapshotReader}.
+     */
+    @Benchmark
+    public GameUno loadSnapshot() throws IOException {
+        return new GameSnapshotReader(new ByteArrayInputStream(savedSnapshot)).read();
+    }
+}
@@ -2,9 +2,12 @@ module org.example.eiscuno {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires jdk.httpserver;
+    requires jdk.jfr;
 
 
     opens org.example.eiscuno to javafx.fxml;
     opens org.example.eiscuno.controller to javafx.fxml;
+    opens org.example.eiscuno.view to javafx.fxml;
     exports org.example.eiscuno;
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.example.eiscuno;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import org.example.eiscuno.metrics.MetricsServer;
 import org.example.eiscuno.view.GameUnoStage;
 
 import java.io.IOException;
@@ -21,13 +22,22 @@ public class Main extends Application {
     }
 
     /**
-     * Starts the application.
+     * Starts the application, and its metrics endpoint if the
+     * {@value MetricsServer#PORT_PROPERTY} system property is set.
      *
      * @param primaryStage the primary stage of the application
      * @throws IOException if an error occurs while loading the stage
      */
     @Override
     public void start(Stage primaryStage) throws IOException {
+        try {
+            MetricsServer metrics = MetricsServer.startFromProperty();
+            if (metrics != null) {
+                System.out.println("Serving metrics on http://localhost:" + metrics.getPort() + "/metrics");
+            }
+        } catch (IOException e) {
+            System.err.println("Could not start the metrics endpoint. Error: " + e.getMessage());
+        }
         GameUnoStage.getInstance();
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package org.example.eiscuno.concurrent;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A lock-free mailbox whose items are handled in order, one batch at a time, on an
+ * executor.
+ * <p>
+ * Enqueuing an item appends it to the queue and, if the mailbox is idle, schedules one
+ * {@link #drain()} on the executor. After a drain, another one is scheduled if items are
+ * left, so drains never overlap and the mailbox only takes an executor thread while it
+ * has items. Subclasses decide how many items a drain takes and what to do with them.
+ * </p>
+ *
+ * @param <T> the type of the items
+ */
+public abstract class SerialMailbox<T> {
+
+    private final Executor executor;
+    private final Queue<T> items = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable run = this::run;
+
+    /**
+     * @param executor where the drains run
+     */
+    protected SerialMailbox(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Queues an item and schedules a drain unless one is already pending.
+     *
+     * @param item the item
+     */
+    protected final void enqueue(T item) {
+        items.offer(item);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(run);
+        }
+    }
+
+    /**
+     * Takes the oldest item, for {@link #drain()}.
+     *
+     * @return the item, or null if the mailbox is empty
+     */
+    protected final T poll() {
+        return items.poll();
+    }
+
+    /**
+     * Handles some of the queued items, taken with {@link #poll()}. Called on the executor
+     * by one thread at a time. A drain should stop after a bounded batch, so the other
+     * tasks of the executor get a turn; the items left get another drain.
+     */
+    protected abstract void drain();
+
+    private void run() {
+        try {
+            drain();
+        } finally {
+            scheduled.set(false);
+            // An item enqueued after the last poll may have seen the flag still set.
+            if (!items.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(run);
+            }
+        }
+    }
+}
@@ -7,42 +7,58 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
-import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.GridPane;
+import org.example.eiscuno.jfr.GameStartedEvent;
+import org.example.eiscuno.metrics.GameMetrics;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.card.CardImageCache;
 import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.event.GameEvent;
 import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.IsmctsStrategy;
+import org.example.eiscuno.model.machine.MachineTurnHost;
+import org.example.eiscuno.model.machine.UnoWatcher;
 import org.example.eiscuno.model.machine.ThreadPlayMachine;
 import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.MoveResult;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+import org.example.eiscuno.model.save.CorruptSaveException;
+import org.example.eiscuno.model.save.GamePersistence;
 import org.example.eiscuno.model.table.Table;
 import org.example.eiscuno.model.unoenum.EISCUnoEnum;
-import javafx.scene.image.Image;
+import org.example.eiscuno.timer.Timeout;
+import org.example.eiscuno.timer.TimerWheel;
+import org.example.eiscuno.view.FxExecutor;
+import org.example.eiscuno.view.HandRenderer;
+import org.example.eiscuno.view.VirtualHandView;
 
 import javafx.scene.control.ChoiceDialog;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Controller class for the Uno game.
  */
-public class GameUnoController {
+public class GameUnoController implements MachineTurnHost {
 
     private static final String SAVE_FILE_NAME = "uno_save.dat";
+    private static final long MACHINE_BUDGET_MILLIS = 500;
+    /** The system property that sets the seed of a new game, to replay it. */
+    private static final String SEED_PROPERTY = "uno.seed";
 
     @FXML
     private GridPane gridPaneCardsMachine;
     @FXML
-    private GridPane gridPaneCardsPlayer;
+    private VirtualHandView handView;
     @FXML
     private ImageView tableImageView;
     @FXML
@@ -57,12 +73,17 @@ public class GameUnoController {
     private Deck deck;
     private Table table;
     private GameUno gameUno;
-    private int posInitCardToShow;
+    private final MoveResult moveResult = new MoveResult();
+    private GamePersistence persistence;
 
+    private HandRenderer machineHand;
     private ThreadPlayMachine threadPlayMachine;
-    private Thread humanUnoTimerThread;
+    private Timeout humanUnoPenalty;
+    private SplittableRandom random;
+    private SplittableRandom unoTimerRandom;
     private volatile boolean isHumanTurn = true;
     private volatile boolean humanSaidUno = false;
+    private boolean humanUnoPending = false;
     private boolean gameHasEnded = false;
 
     /**
@@ -75,31 +96,55 @@ public class GameUnoController {
     }
 
     /**
-     * Initializes the controller. It attempts to load a saved game from the default
-     * save file. If a saved game is not found or fails to load, it proceeds
-     * to start a new game session. It also initializes the background threads for
-     * the game logic.
+     * Initializes the controller. It attempts to restore the saved game from the default
+     * save file and its move journal. If a saved game is not found, has ended or fails to
+     * load, it proceeds to start a new game session. Every following move is journaled. It
+     * also initializes the background threads for the game logic.
+     * <p>
+     * The session owns one random stream, seeded from the {@value #SEED_PROPERTY} system
+     * property if set; the deck, the machine and the UNO timer each get a split of it. The
+     * seed is recorded in a {@code GameStartedEvent} so a game can be replayed.
+     * </p>
      */
     @FXML
     public void initialize() {
-        File saveFile = new File(SAVE_FILE_NAME);
-        if (saveFile.exists()) {
-            System.out.println("Save file found. Attempting to load game...");
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(saveFile))) {
-                GameUno loadedGame = (GameUno) ois.readObject();
+        long seed = Long.getLong(SEED_PROPERTY, new SplittableRandom().nextLong());
+        random = new SplittableRandom(seed);
+        unoTimerRandom = random.split();
+        persistence = new GamePersistence(Paths.get(SAVE_FILE_NAME));
+        boolean resumed = false;
+        try {
+            GameUno loadedGame = persistence.load();
+            if (loadedGame != null && !loadedGame.isGameOver()) {
                 updateGameFromLoad(loadedGame);
+                resumed = true;
                 System.out.println("Game loaded successfully!");
-            } catch (IOException | ClassNotFoundException e) {
-                System.err.println("Could not load game, starting a new one. Error: " + e.getMessage());
+            } else {
+                System.out.println("No game to resume. Starting a new game...");
                 startNewGame();
             }
-        } else {
-            System.out.println("No save file found. Starting a new game...");
+        } catch (CorruptSaveException e) {
+            System.err.println("Save file is corrupted, starting a new game. Reason: " + e.getMessage());
+            startNewGame();
+        } catch (IOException e) {
+            System.err.println("Could not load game, starting a new one. Error: " + e.getMessage());
             startNewGame();
         }
-        threadPlayMachine = new ThreadPlayMachine(this.table, this.machinePlayer, this.tableImageView, this);
-        threadPlayMachine.setDaemon(true);
-        threadPlayMachine.start();
+        new GameStartedEvent().record(gameUno.getSessionId(), seed, resumed);
+        gameUno.getEvents().subscribe(this::renderEvents, FxExecutor.getInstance());
+        GameMetrics.watch(gameUno);
+        new UnoWatcher(this::onLastCard).watch(humanPlayer, machinePlayer);
+        try {
+            persistence.attach(gameUno);
+        } catch (IOException e) {
+            System.err.println("Could not open the save file, the game will not be saved. Error: " + e.getMessage());
+        }
+        threadPlayMachine = new ThreadPlayMachine(this.gameUno, this.machinePlayer,
+                new IsmctsStrategy(MACHINE_BUDGET_MILLIS, ForkJoinPool.commonPool(), random.split()), this,
+                FxExecutor.getInstance(), random.split());
+        if (!isHumanTurn) {
+            threadPlayMachine.setMyTurn(true); // A loaded game may resume on the machine's turn
+        }
 
         if (buttonUno != null) {
             buttonUno.setVisible(false);
@@ -107,18 +152,14 @@ public class GameUnoController {
     }
 
     private void setupInitialCards() {
-        tableImageView.setImage(table.getCurrentCardOnTheTable().getImage());
+        if (machineHand == null) {
+            handView.setOnCardClicked(this::onHumanCardClicked);
+            machineHand = new HandRenderer(gridPaneCardsMachine, 70, 90, 0);
+        }
+        tableImageView.setImage(CardImageCache.getInstance().get(table.getCurrentCardOnTheTable().getFace()));
         printCardsHumanPlayer();
         updateMachineCardCount();
-        gridPaneCardsMachine.getChildren().clear();
-        Image backCardImage = new Image(
-                Objects.requireNonNull(getClass().getResource(EISCUnoEnum.CARD_UNO.getFilePath())).toString());
-        for (int i = 0; i < machinePlayer.getCardsPlayer().size(); i++) {
-            ImageView cardImageView = new ImageView(backCardImage);
-            cardImageView.setFitHeight(90);
-            cardImageView.setFitWidth(70);
-            gridPaneCardsMachine.add(cardImageView, i, 0);
-        }
+        machineHand.showBacks(machinePlayer.getCardsPlayer().size());
 
         // 1. Obtenemos la ruta de la imagen como un String para usarla en CSS.
         String backCardImagePath = Objects.requireNonNull(getClass().getResource(EISCUnoEnum.CARD_UNO.getFilePath()))
@@ -138,166 +179,187 @@ public class GameUnoController {
     private void initVariables() {
         humanPlayer = new Player("HUMAN_PLAYER");
         machinePlayer = new Player("MACHINE_PLAYER");
-        deck = new Deck();
+        deck = new Deck(random.split());
         table = new Table();
         gameUno = new GameUno(this.humanPlayer, this.machinePlayer, this.deck, this.table);
-        posInitCardToShow = 0;
         isHumanTurn = true;
     }
 
     private void printCardsHumanPlayer() {
-        gridPaneCardsPlayer.getChildren().clear();
-        Card[] currentVisibleCards = gameUno.getCurrentVisibleCardsHumanPlayer(posInitCardToShow);
-
-        for (int i = 0; i < currentVisibleCards.length; i++) {
-            Card card = currentVisibleCards[i];
-            ImageView cardImageView = card.getCard();
-
-            cardImageView.setOnMouseClicked((MouseEvent event) -> {
-                if (isHumanTurn) {
-                    try {
-                        playHumanCard(card);
-                    } catch (InvalidPlayException e) {
-                        showAlert("Invalid Play", e.getMessage());
-                    }
-                } else {
-                    showAlert("Not Your Turn", "Please wait for the machine to play.");
-                }
-            });
-            gridPaneCardsPlayer.add(cardImageView, i, 0);
+        handView.setCards(humanPlayer.getCardsPlayer());
+    }
+
+    private void onHumanCardClicked(Card card) {
+        if (isHumanTurn) {
+            try {
+                playHumanCard(card);
+            } catch (InvalidPlayException e) {
+                showAlert("Invalid Play", e.getMessage());
+            }
+        } else {
+            showAlert("Not Your Turn", "Please wait for the machine to play.");
+        }
+    }
+
+    /**
+     * Updates only the parts of the view touched by a batch of game events. Called on the
+     * JavaFX application thread, once for all the events of a move.
+     *
+     * @param events the events of the game, in order
+     */
+    private void renderEvents(List<GameEvent> events) {
+        int humanSeat = gameUno.seatOf(humanPlayer);
+        boolean humanHandChanged = false;
+        int machineHandSize = -1;
+        for (GameEvent event : events) {
+            switch (event.getType()) {
+                case CARD_PLAYED:
+                    tableImageView.setImage(CardImageCache.getInstance().get(CardCode.faceOf(event.getCard())));
+                    break;
+                case CARDS_DRAWN:
+                    break;
+                default:
+                    continue; // The other events leave the hands as they are
+            }
+            if (event.getSeat() == humanSeat) {
+                humanHandChanged = true;
+            } else {
+                machineHandSize = event.getHandSize();
+            }
+        }
+        if (humanHandChanged) {
+            handView.refresh();
+            if (humanPlayer.getCardsPlayer().size() != 1) {
+                buttonUno.setVisible(false);
+            }
+        }
+        if (machineHandSize >= 0) {
+            machineHand.showBacks(machineHandSize);
+            if (machineCardCountLabel != null) {
+                machineCardCountLabel.setText("Machine Cards: " + machineHandSize);
+            }
         }
     }
 
     private void playHumanCard(Card card) throws InvalidPlayException {
         if (gameHasEnded)
             return;
-        if (!validatePlay(card, table.getCurrentCardOnTheTable())) {
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, card, CardCode.NO_COLOR, moveResult);
+        if (!moveResult.isLegal()) {
             throw new InvalidPlayException("This card doesn't match the color or value of the card on the table.");
         }
 
-        // Play the card
-        isHumanTurn = false;
-        humanPlayer.removeCard(findPosCardsHumanPlayer(card));
-        gameUno.playCard(card);
-        tableImageView.setImage(card.getImage());
-
-        humanSaidUno = false; // Reset UNO status after playing
-        buttonUno.setVisible(false);
-
-        printCardsHumanPlayer(); // Update UI
+        handleMoveResult(humanPlayer, moveResult);
+        // Only start the UNO countdown once the color picker and alerts of the move are closed
+        if (humanUnoPending) {
+            humanUnoPending = false;
+            if (!gameHasEnded && !humanSaidUno) {
+                startUnoTimer();
+            }
+        }
+    }
 
-        if (isGameOver()) {
-            endGame("You");
+    /**
+     * Plays the card chosen by the machine. Called by the machine player on the
+     * JavaFX application thread.
+     *
+     * @param card  the card the machine wants to play
+     * @param color the color chosen by the machine after a WILD or +4
+     */
+    @Override
+    public void playMachineCard(Card card, int color) {
+        if (gameHasEnded)
+            return;
+        UnoRulesEngine.applyPlay(gameUno, machinePlayer, card, color, moveResult);
+        if (!moveResult.isLegal()) {
+            passTurnTo(humanPlayer);
             return;
         }
+        handleMoveResult(machinePlayer, moveResult);
+    }
 
-        handleCardEffect(card, humanPlayer);
+    /**
+     * Makes the machine draw a card because it has no playable card. Called by the
+     * machine player on the JavaFX application thread.
+     */
+    @Override
+    public void drawMachineCard() {
+        if (gameHasEnded)
+            return;
+        UnoRulesEngine.applyDraw(gameUno, machinePlayer, moveResult);
+        passTurnTo(moveResult.getNextPlayer());
+    }
 
-        // If the turn wasn't skipped, notify the machine thread
-        if (!isHumanTurn) { // A skip card would set isHumanTurn back to true
-            threadPlayMachine.setMyTurn(true);
+    /**
+     * Updates the view after a card was played and hands the turn over to the next
+     * player decided by the rules engine.
+     *
+     * @param currentPlayer the player who played the card
+     * @param result        the outcome of the play
+     */
+    private void handleMoveResult(Player currentPlayer, MoveResult result) {
+        if (result.isGameOver()) {
+            endGame(currentPlayer == humanPlayer ? "You" : "Machine");
+            return;
         }
-    }
 
-    public void handleCardEffect(Card card, Player currentPlayer) {
-        String cardValue = card.getValue();
-        Player opponent = (currentPlayer == humanPlayer) ? machinePlayer : humanPlayer;
-        boolean turnPassedToMachine = false;
-
-        switch (cardValue) {
-            case "+2":
-                gameUno.eatCard(opponent, 2);
-                break;
-            case "SKIP":
-
-                if (currentPlayer == humanPlayer) {
-                    isHumanTurn = true;
-                    showAlert("Turn Skipped!", "You get to play again.");
-                } else {
-                    threadPlayMachine.setMyTurn(true);
-                }
-                turnPassedToMachine = true;
-                break;
-            case "+4":
-                gameUno.eatCard(opponent, 4);
-
-                if (currentPlayer == humanPlayer) {
-                    showColorPickerDialog();
-                    turnPassedToMachine = true;
-                }
-                break;
-            case "WILD":
-
-                if (currentPlayer == humanPlayer) {
-                    showColorPickerDialog();
-                    turnPassedToMachine = true;
-                }
-                break;
+        if (currentPlayer == humanPlayer) {
+            if (result.getNextPlayer() == humanPlayer) {
+                showAlert("Turn Skipped!", "You get to play again.");
+            }
+            if (result.isColorPending()) {
+                gameUno.setActiveColor(CardCode.parseColor(showColorPickerDialog()));
+            }
         }
 
-        printCardsHumanPlayer();
-        updateMachineCardCount();
-        checkUnoCondition();
+        passTurnTo(result.getNextPlayer());
+    }
 
-        if (currentPlayer == humanPlayer && !turnPassedToMachine) {
+    private void passTurnTo(Player nextPlayer) {
+        if (nextPlayer == humanPlayer) {
+            isHumanTurn = true;
+        } else {
+            isHumanTurn = false;
             threadPlayMachine.setMyTurn(true);
         }
     }
 
-    private void checkUnoCondition() {
-        if (humanPlayer.getCardsPlayer().size() == 1 && !humanSaidUno) {
+    /**
+     * Reacts to a hand dropping to one card, right when the card is played. The machine
+     * calls "UNO" at once; the human gets the UNO button and, once the move is over, a few
+     * seconds to press it.
+     *
+     * @param player the player left with one card
+     */
+    private void onLastCard(Player player) {
+        if (player == humanPlayer) {
+            humanSaidUno = false;
             buttonUno.setVisible(true);
-            // Start a timer. If UNO is not pressed in time, penalize.
-            startUnoTimer();
+            humanUnoPending = true;
         } else {
-            buttonUno.setVisible(false);
-        }
-
-        if (machinePlayer.getCardsPlayer().size() == 1) {
-            // Machine automatically "says" UNO
-            System.out.println("Machine has ONE card left!");
+            gameUno.callUno(player);
         }
     }
 
     private void startUnoTimer() {
-        humanUnoTimerThread = new Thread(() -> {
-            try {
-                // Wait for 2 to 4 seconds
-                long sleepTime = 2000 + new Random().nextInt(2001);
-                Thread.sleep(sleepTime);
-
-                Platform.runLater(() -> {
-                    // If after the time, the player hasn't said UNO and still has one card
-                    if (humanPlayer.getCardsPlayer().size() == 1 && !humanSaidUno) {
-                        showAlert("UNO Penalty", "You didn't say UNO in time! You draw a card.");
-                        gameUno.eatCard(humanPlayer, 1);
-                        printCardsHumanPlayer();
-                        buttonUno.setVisible(false);
-                    }
-                });
-            } catch (InterruptedException e) {
-                // If the thread is interrupted, it means the player said UNO in time.
-                Thread.currentThread().interrupt();
+        cancelUnoTimer();
+        // Wait for 2 to 4 seconds
+        long delay = 2000 + unoTimerRandom.nextInt(2001);
+        humanUnoPenalty = TimerWheel.shared().schedule(() -> {
+            // If after the time, the player hasn't said UNO and still has one card
+            if (humanPlayer.getCardsPlayer().size() == 1 && !humanSaidUno) {
+                showAlert("UNO Penalty", "You didn't say UNO in time! You draw a card.");
+                gameUno.eatCard(humanPlayer, 1);
+                buttonUno.setVisible(false);
             }
-        });
-        humanUnoTimerThread.setDaemon(true);
-        humanUnoTimerThread.start();
-    }
-
-    public boolean validatePlay(Card cardToPlay, Card cardOnTable) {
-        String activeColor = table.getActiveColor(); // Usamos el color activo de la mesa
-        return cardToPlay.getColor().equals("WILD") ||
-                cardToPlay.getColor().equals(activeColor) ||
-                cardToPlay.getValue().equals(cardOnTable.getValue());
+        }, delay, TimeUnit.MILLISECONDS, FxExecutor.getInstance());
     }
 
-    private Integer findPosCardsHumanPlayer(Card card) {
-        for (int i = 0; i < humanPlayer.getCardsPlayer().size(); i++) {
-            if (humanPlayer.getCardsPlayer().get(i).equals(card)) {
-                return i;
-            }
+    private void cancelUnoTimer() {
+        if (humanUnoPenalty != null) {
+            humanUnoPenalty.cancel();
+            humanUnoPenalty = null;
         }
-        return -1;
     }
 
     @FXML
@@ -308,33 +370,27 @@ public class GameUnoController {
             showAlert("Wait!", "It's not your turn.");
             return;
         }
-        if (!deck.isEmpty()) {
-            gameUno.eatCard(humanPlayer, 1);
-            printCardsHumanPlayer();
-            isHumanTurn = false;
-            threadPlayMachine.setMyTurn(true); // Pass turn to machine
-        } else {
-            showAlert("Deck Empty", "No more cards to draw.");
+        // The engine recycles the discard pile when the deck is empty
+        UnoRulesEngine.applyDraw(gameUno, humanPlayer, moveResult);
+        if (moveResult.getCardsDrawn() == 0) {
+            showAlert("Deck Empty", "No more cards to draw. Your turn passes.");
         }
+        passTurnTo(moveResult.getNextPlayer()); // Pass turn to machine
     }
 
     @FXML
     void onHandleUno(ActionEvent event) {
         if (humanPlayer.getCardsPlayer().size() == 1) {
-            System.out.println("Human says UNO!");
             humanSaidUno = true;
+            gameUno.callUno(humanPlayer);
             buttonUno.setVisible(false);
-            if (humanUnoTimerThread != null && humanUnoTimerThread.isAlive()) {
-                humanUnoTimerThread.interrupt(); // Stop the penalty timer
-            }
+            cancelUnoTimer(); // Stop the penalty timer
         }
     }
 
     @FXML
     void onHandleExitGame(ActionEvent event) {
-        if (humanUnoTimerThread != null && humanUnoTimerThread.isAlive()) {
-            humanUnoTimerThread.interrupt(); // Stop the UNO timer if it's running
-        }
+        cancelUnoTimer(); // Stop the UNO timer if it's running
         showAlert("Exit Game", "Thanks for playing! Exiting the game.");
         Platform.exit();
     }
@@ -344,34 +400,22 @@ public class GameUnoController {
             return;
         }
         gameHasEnded = true;
+        threadPlayMachine.setMyTurn(false);
         System.out.println("Game has ended. Winner: " + winner);
 
         if (barajaCard != null)
             barajaCard.setDisable(true);
         if (buttonUno != null)
             buttonUno.setDisable(true);
-        if (gridPaneCardsPlayer != null)
-            gridPaneCardsPlayer.setDisable(true);
+        if (handView != null)
+            handView.setDisable(true);
 
         showAlert("Game Over", winner + " won the game!");
+        saveGameOnClose();
         Platform.exit();
         System.exit(0);
     }
 
-    public boolean isGameOver() {
-        boolean isOver = gameUno.isGameOver();
-        if (isOver) {
-            Platform.runLater(() -> {
-                if (humanPlayer.getCardsPlayer().isEmpty()) {
-                    endGame("You");
-                } else if (machinePlayer.getCardsPlayer().isEmpty()) {
-                    endGame("Machine");
-                }
-            });
-        }
-        return isOver;
-    }
-
     public void updateMachineCardCount() {
         if (machineCardCountLabel != null) {
             machineCardCountLabel.setText("Machine Cards: " + machinePlayer.getCardsPlayer().size());
@@ -397,21 +441,15 @@ public class GameUnoController {
 
     @FXML
     void onHandleBack(ActionEvent event) {
-        if (posInitCardToShow > 0) {
-            posInitCardToShow--;
-            printCardsHumanPlayer();
-        }
+        handView.scrollCards(-1);
     }
 
     @FXML
     void onHandleNext(ActionEvent event) {
-        if (posInitCardToShow < humanPlayer.getCardsPlayer().size() - 4) {
-            posInitCardToShow++;
-            printCardsHumanPlayer();
-        }
+        handView.scrollCards(1);
     }
 
-    private void showColorPickerDialog() {
+    private String showColorPickerDialog() {
         List<String> colors = Arrays.asList("RED", "GREEN", "BLUE", "YELLOW");
         ChoiceDialog<String> dialog = new ChoiceDialog<>("RED", colors);
         dialog.setTitle("Color Picker");
@@ -421,20 +459,8 @@ public class GameUnoController {
         // Muestra el diálogo y espera a que el usuario elija.
         Optional<String> result = dialog.showAndWait();
 
-        // Si el usuario eligió un color, actualiza la mesa.
-        result.ifPresent(color -> {
-            table.setActiveColor(color);
-            // Una vez elegido el color, es el turno de la máquina.
-            threadPlayMachine.setMyTurn(true);
-        });
-
-        // Si el usuario cierra el diálogo sin elegir, se podría asignar un color por
-        // defecto
-        // o volver a mostrar el diálogo. Por simplicidad, asumimos que siempre elige.
-        if (result.isEmpty()) {
-            table.setActiveColor("RED"); // Color por defecto si se cancela
-            threadPlayMachine.setMyTurn(true);
-        }
+        // Si el usuario cierra el diálogo sin elegir, se usa un color por defecto.
+        return result.orElse("RED");
     }
 
     /**
@@ -463,33 +489,27 @@ public class GameUnoController {
         this.deck = loadedGame.getDeck();
         this.table = loadedGame.getTable();
 
-        for (Card card : humanPlayer.getCardsPlayer())
-            card.reinitializeImageView();
-        for (Card card : machinePlayer.getCardsPlayer())
-            card.reinitializeImageView();
-        for (Card card : table.getCardsTable())
-            card.reinitializeImageView();
         setupInitialCards();
         isHumanTurn = gameUno.getCurrentTurn().equals("HUMAN_PLAYER");
     }
 
     /**
-     * Saves the current game state to a predefined file.
+     * Saves the current game state to a predefined file and stops journaling.
      * This method is public to be called from the Stage when the application
      * closes.
      */
     public void saveGameOnClose() {
         System.out.println("Saving game on close...");
-        File file = new File(SAVE_FILE_NAME);
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
-            oos.writeObject(this.gameUno);
-            System.out.println("Game saved successfully to " + file.getAbsolutePath());
+        try {
+            persistence.close();
+            System.out.println("Game saved successfully to " + Paths.get(SAVE_FILE_NAME).toAbsolutePath());
         } catch (IOException e) {
             System.err.println("Could not save the game.");
             e.printStackTrace();
         }
     }
 
+    @Override
     public boolean hasGameEnded() {
         return gameHasEnded;
     }
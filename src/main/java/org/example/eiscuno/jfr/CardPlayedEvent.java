@@ -0,0 +1,52 @@
+package org.example.eiscuno.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Flight Recorder event of a card played from a hand, see {@code GameUno.playCardFromHand}.
+ */
+@Name("org.example.eiscuno.CardPlayed")
+@Label("Card Played")
+@Category({"EISC Uno", "Game"})
+@Description("A player moved a card from their hand to the table")
+@StackTrace(false)
+public class CardPlayedEvent extends Event {
+
+    @Label("Session")
+    long sessionId;
+
+    @Label("Seat")
+    int seat;
+
+    @Label("Card")
+    String card;
+
+    @Label("Hand Size")
+    @Description("Cards left in the hand after the play")
+    int handSize;
+
+    /**
+     * Ends the event and writes it, if it is enabled and lasted past its threshold.
+     *
+     * @param game   the game
+     * @param player the player, after the play
+     * @param card   the played card
+     */
+    public void record(GameUno game, Player player, Card card) {
+        if (shouldCommit()) {
+            this.sessionId = game.getSessionId();
+            this.seat = game.seatOf(player);
+            this.card = card.getFace().name();
+            this.handSize = player.getCardsPlayer().size();
+            commit();
+        }
+    }
+}
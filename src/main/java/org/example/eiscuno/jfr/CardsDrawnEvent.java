@@ -0,0 +1,61 @@
+package org.example.eiscuno.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Flight Recorder event of a player drawing cards, see {@code GameUno.eatCard}.
+ */
+@Name("org.example.eiscuno.CardsDrawn")
+@Label("Cards Drawn")
+@Category({"EISC Uno", "Game"})
+@Description("A player drew cards from the deck, recycling the discard pile if needed")
+@StackTrace(false)
+public class CardsDrawnEvent extends Event {
+
+    @Label("Session")
+    long sessionId;
+
+    @Label("Seat")
+    int seat;
+
+    @Label("Requested")
+    int requested;
+
+    @Label("Drawn")
+    @Description("Fewer than requested when both the deck and the discard pile ran out")
+    int drawn;
+
+    @Label("Hand Size")
+    @Description("Cards in the hand after the draw")
+    int handSize;
+
+    @Label("Deck Size")
+    int deckSize;
+
+    /**
+     * Ends the event and writes it, if it is enabled and lasted past its threshold.
+     *
+     * @param game      the game, after the draw
+     * @param player    the player, after the draw
+     * @param requested the number of cards to draw
+     * @param drawn     the number of cards drawn
+     */
+    public void record(GameUno game, Player player, int requested, int drawn) {
+        if (shouldCommit()) {
+            this.sessionId = game.getSessionId();
+            this.seat = game.seatOf(player);
+            this.requested = requested;
+            this.drawn = drawn;
+            this.handSize = player.getCardsPlayer().size();
+            this.deckSize = game.getDeck().size();
+            commit();
+        }
+    }
+}
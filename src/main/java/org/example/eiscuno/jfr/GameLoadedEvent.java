@@ -0,0 +1,44 @@
+package org.example.eiscuno.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a saved game read back, see {@code GamePersistence.load}.
+ */
+@Name("org.example.eiscuno.GameLoaded")
+@Label("Game Loaded")
+@Category({"EISC Uno", "Persistence"})
+@Description("A snapshot was read and its journal replayed")
+public class GameLoadedEvent extends Event {
+
+    @Label("Session")
+    long sessionId;
+
+    @Label("Replayed Moves")
+    int moves;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Ends the event and writes it, if it is enabled and lasted past its threshold.
+     *
+     * @param sessionId the session given to the loaded game
+     * @param moves     the number of journal records replayed
+     * @param bytes     the number of bytes read
+     */
+    public void record(long sessionId, int moves, long bytes) {
+        if (shouldCommit()) {
+            this.sessionId = sessionId;
+            this.moves = moves;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.eiscuno.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a game written to disk, see {@code GamePersistence.flush}.
+ */
+@Name("org.example.eiscuno.GameSaved")
+@Label("Game Saved")
+@Category({"EISC Uno", "Persistence"})
+@Description("A snapshot and/or journal records were written and synced")
+public class GameSavedEvent extends Event {
+
+    @Label("Session")
+    long sessionId;
+
+    @Label("Snapshot")
+    @Description("True if a full snapshot was written, false for journal records only")
+    boolean snapshot;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Ends the event and writes it, if it is enabled and lasted past its threshold.
+     *
+     * @param sessionId the session of the game
+     * @param snapshot  true if a snapshot was written
+     * @param bytes     the number of bytes written
+     */
+    public void record(long sessionId, boolean snapshot, long bytes) {
+        if (shouldCommit()) {
+            this.sessionId = sessionId;
+            this.snapshot = snapshot;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.eiscuno.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a desktop game session starting, with the seed that replays it.
+ */
+@Name("org.example.eiscuno.GameStarted")
+@Label("Game Started")
+@Category({"EISC Uno", "Game"})
+@Description("A game session started; run again with -Duno.seed to replay it")
+@StackTrace(false)
+public class GameStartedEvent extends Event {
+
+    @Label("Session")
+    long sessionId;
+
+    @Label("Seed")
+    long seed;
+
+    @Label("Resumed")
+    @Description("Whether the game was loaded from a save")
+    boolean resumed;
+
+    /**
+     * Writes the event, if it is enabled.
+     *
+     * @param sessionId the session of the game
+     * @param seed      the seed of the session's random stream
+     * @param resumed   whether the game was loaded from a save
+     */
+    public void record(long sessionId, long seed, boolean resumed) {
+        if (shouldCommit()) {
+            this.sessionId = sessionId;
+            this.seed = seed;
+            this.resumed = resumed;
+            commit();
+        }
+    }
+}
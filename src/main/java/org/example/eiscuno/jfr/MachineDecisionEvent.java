@@ -0,0 +1,58 @@
+package org.example.eiscuno.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.MachineMove;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Flight Recorder event of a machine strategy choosing a move. The duration is the
+ * thinking of the strategy only, not the think time shown to the player.
+ */
+@Name("org.example.eiscuno.MachineDecision")
+@Label("Machine Decision")
+@Category({"EISC Uno", "Machine"})
+@Description("A machine strategy chose a move")
+@StackTrace(false)
+public class MachineDecisionEvent extends Event {
+
+    @Label("Session")
+    long sessionId;
+
+    @Label("Seat")
+    int seat;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Card")
+    @Description("The chosen card, or null for a draw")
+    String card;
+
+    @Label("Hand Size")
+    int handSize;
+
+    /**
+     * Ends the event and writes it, if it is enabled and lasted past its threshold.
+     *
+     * @param game     the game
+     * @param machine  the machine player
+     * @param strategy the strategy that decided
+     * @param move     the chosen move
+     */
+    public void record(GameUno game, Player machine, Object strategy, MachineMove move) {
+        if (shouldCommit()) {
+            this.sessionId = game.getSessionId();
+            this.seat = game.seatOf(machine);
+            this.strategy = strategy.getClass().getSimpleName();
+            this.card = move.isDraw() ? null : move.getCard().getFace().name();
+            this.handSize = machine.getCardsPlayer().size();
+            commit();
+        }
+    }
+}
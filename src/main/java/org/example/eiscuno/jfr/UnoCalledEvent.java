@@ -0,0 +1,52 @@
+package org.example.eiscuno.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Flight Recorder event of a player calling "UNO", see {@code GameUno.callUno} and
+ * {@code GameUno.haveSungOne}.
+ */
+@Name("org.example.eiscuno.UnoCalled")
+@Label("UNO Called")
+@Category({"EISC Uno", "Game"})
+@Description("A player called UNO, possibly penalizing the next player")
+@StackTrace(false)
+public class UnoCalledEvent extends Event {
+
+    @Label("Session")
+    long sessionId;
+
+    @Label("Seat")
+    int seat;
+
+    @Label("Hand Size")
+    int handSize;
+
+    @Label("Penalized Seat")
+    @Description("The seat that drew a penalty card, or -1")
+    int penalizedSeat;
+
+    /**
+     * Ends the event and writes it, if it is enabled and lasted past its threshold.
+     *
+     * @param game          the game
+     * @param player        the caller
+     * @param penalizedSeat the seat that drew a penalty card, or -1
+     */
+    public void record(GameUno game, Player player, int penalizedSeat) {
+        if (shouldCommit()) {
+            this.sessionId = game.getSessionId();
+            this.seat = game.seatOf(player);
+            this.handSize = player.getCardsPlayer().size();
+            this.penalizedSeat = penalizedSeat;
+            commit();
+        }
+    }
+}
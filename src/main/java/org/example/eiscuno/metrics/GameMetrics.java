@@ -0,0 +1,101 @@
+package org.example.eiscuno.metrics;
+
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.event.GameEventListener;
+import org.example.eiscuno.model.game.GameUno;
+
+import java.util.List;
+
+/**
+ * The metrics of the game, registered in the shared {@link MetricsRegistry}.
+ * <p>
+ * Components record into these fields directly. Turn durations, cards drawn per turn and
+ * UNO calls come from the events of a game, see {@link #watch(GameUno)}, so the rules and
+ * the model need no timing code.
+ * </p>
+ */
+public final class GameMetrics {
+
+    private static final MetricsRegistry REGISTRY = MetricsRegistry.getInstance();
+
+    /** How long each turn lasted, from the turn change to the next one. */
+    public static final Histogram TURN_DURATION = REGISTRY.timer("uno_turn_duration_seconds",
+            "Time from the start of a turn to the start of the next one.");
+    /** How many cards a player drew during a turn. */
+    public static final Histogram CARDS_DRAWN_PER_TURN = REGISTRY.histogram("uno_cards_drawn_per_turn",
+            "Cards drawn by the player of a turn, penalties included.", 1, 0, 1, 2, 4, 8, 16);
+    /** How long the machine strategy took to choose a move, think time excluded. */
+    public static final Histogram MACHINE_DECISION = REGISTRY.timer("uno_machine_decision_seconds",
+            "Time taken by the machine strategy to choose a move.");
+    /** How long tasks waited in the JavaFX application queue, recorded by the view. */
+    public static final Histogram FX_QUEUE_LAG = REGISTRY.timer("uno_fx_queue_lag_seconds",
+            "Time from Platform.runLater to the start of the task.");
+    /** How long writing the save files took. */
+    public static final Histogram SAVE_DURATION = REGISTRY.timer("uno_save_seconds",
+            "Time taken to write and sync a snapshot and journal records.");
+    /** How many bytes each save wrote. */
+    public static final Histogram SAVE_BYTES = REGISTRY.histogram("uno_save_bytes",
+            "Bytes written by a save.", 1, 64, 256, 1024, 4096, 16384, 65536);
+    /** How long loading a saved game took. */
+    public static final Histogram LOAD_DURATION = REGISTRY.timer("uno_load_seconds",
+            "Time taken to read a snapshot and replay its journal.");
+    /** How many bytes each load read. */
+    public static final Histogram LOAD_BYTES = REGISTRY.histogram("uno_load_bytes",
+            "Bytes of snapshot and journal read by a load.", 1, 64, 256, 1024, 4096, 16384, 65536);
+    /** How many game sessions are open. */
+    public static final Gauge ACTIVE_SESSIONS = REGISTRY.gauge("uno_active_sessions",
+            "Game sessions open on this JVM.");
+    /** How many times a player called UNO. */
+    public static final Counter UNO_CALLS = REGISTRY.counter("uno_calls_total",
+            "UNO calls by players left with one card.");
+    /** How many games were started or resumed. */
+    public static final Counter GAMES_STARTED = REGISTRY.counter("uno_games_started_total",
+            "Games started or resumed on this JVM.");
+
+    private GameMetrics() {
+    }
+
+    /**
+     * Records the turns of a game from now on.
+     *
+     * @param game the game
+     */
+    public static void watch(GameUno game) {
+        GAMES_STARTED.increment();
+        // Delivered on the publishing thread, so the timestamps are those of the changes.
+        game.getEvents().subscribe(new TurnRecorder(), Runnable::run);
+    }
+
+    /**
+     * Times the turns of one game and counts its UNO calls. Calls never overlap, see
+     * {@link GameEventListener}.
+     */
+    private static final class TurnRecorder implements GameEventListener {
+        private long turnStart = System.nanoTime();
+        private int drawn;
+
+        @Override
+        public void onEvents(List<GameEvent> events) {
+            for (GameEvent event : events) {
+                switch (event.getType()) {
+                    case CARDS_DRAWN:
+                        drawn += event.getCount();
+                        break;
+                    case UNO_CALLED:
+                        UNO_CALLS.increment();
+                        break;
+                    case TURN_CHANGED:
+                    case GAME_OVER:
+                        long now = System.nanoTime();
+                        TURN_DURATION.record(now - turnStart);
+                        CARDS_DRAWN_PER_TURN.record(drawn);
+                        turnStart = now;
+                        drawn = 0;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+}
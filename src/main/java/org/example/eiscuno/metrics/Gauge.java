@@ -0,0 +1,52 @@
+package org.example.eiscuno.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A value that goes up and down, e.g. the number of open sessions.
+ */
+public final class Gauge extends Metric {
+    private final AtomicLong value = new AtomicLong();
+
+    Gauge(String name, String help) {
+        super(name, help);
+    }
+
+    /**
+     * Adds one.
+     */
+    public void increment() {
+        value.incrementAndGet();
+    }
+
+    /**
+     * Subtracts one.
+     */
+    public void decrement() {
+        value.decrementAndGet();
+    }
+
+    /**
+     * @param newValue the new value
+     */
+    public void set(long newValue) {
+        value.set(newValue);
+    }
+
+    /**
+     * @return the current value
+     */
+    public long get() {
+        return value.get();
+    }
+
+    @Override
+    String type() {
+        return "gauge";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        out.append(getName()).append(' ').append(get()).append('\n');
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.eiscuno.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts observations in fixed buckets, e.g. how many turns took less than 1 second.
+ * <p>
+ * Values are recorded as longs in a raw unit, such as nanoseconds or bytes, and the
+ * bucket bounds and the sum are written in the base unit of the metric, divided by
+ * {@code rawPerUnit} (1e9 for nanoseconds written as seconds). Recording is lock-free:
+ * it finds the bucket and increments two {@link LongAdder}s, so timing a hot path costs
+ * a few nanoseconds.
+ * </p>
+ */
+public final class Histogram extends Metric {
+    /** Bounds for durations in nanoseconds, from 100 µs to 30 s. */
+    static final long[] DURATION_BOUNDS = {
+            100_000L, 500_000L, 1_000_000L, 5_000_000L, 10_000_000L, 50_000_000L, 100_000_000L,
+            500_000_000L, 1_000_000_000L, 5_000_000_000L, 10_000_000_000L, 30_000_000_000L};
+    /** The raw units per base unit of nanoseconds written as seconds. */
+    static final double NANOS_PER_SECOND = 1e9;
+
+    private final double rawPerUnit;
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+
+    Histogram(String name, String help, double rawPerUnit, long[] bounds) {
+        super(name, help);
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("The bounds of " + name + " must increase");
+            }
+        }
+        this.rawPerUnit = rawPerUnit;
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records an observation.
+     *
+     * @param value the value, in the raw unit of the histogram
+     */
+    public void record(long value) {
+        int bucket = 0;
+        while (bucket < bounds.length && value > bounds[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sum.add(value);
+    }
+
+    /**
+     * Records the time elapsed since a start time, for histograms in nanoseconds.
+     *
+     * @param startNanos the start, as given by {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return the number of observations
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return the sum of the observations, in the raw unit
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    @Override
+    String type() {
+        return "histogram";
+    }
+
+    @Override
+    void writeSamples(StringBuilder out) {
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += buckets[i].sum();
+            out.append(getName()).append("_bucket{le=\"").append(bounds[i] / rawPerUnit).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        cumulative += buckets[bounds.length].sum();
+        out.append(getName()).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(getName()).append("_sum ").append(sum.sum() / rawPerUnit).append('\n');
+        out.append(getName()).append("_count ").append(cumulative).append('\n');
+    }
+}
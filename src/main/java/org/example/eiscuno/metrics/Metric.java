@@ -0,0 +1,37 @@
+package org.example.eiscuno.metrics;
+
+/**
+ * A named value of a {@link MetricsRegistry}, written in the Prometheus text format.
+ */
+public abstract class Metric {
+    private final String name;
+    private final String help;
+
+    Metric(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    /**
+     * @return the name of the metric, e.g. {@code uno_turn_duration_seconds}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the Prometheus type: counter, gauge or histogram
+     */
+    abstract String type();
+
+    /**
+     * Appends the samples of this metric, without the HELP and TYPE lines.
+     */
+    abstract void writeSamples(StringBuilder out);
+
+    final void write(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type()).append('\n');
+        writeSamples(out);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.eiscuno.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The metrics of the JVM, by name.
+ * <p>
+ * Metrics are created on their first registration and the same instance is returned
+ * for the same name afterwards, so independent components can share a metric without
+ * passing it around. Updating a metric never touches the registry; only registering and
+ * scraping do. The scrape is written in the Prometheus text exposition format, sorted by
+ * name.
+ * </p>
+ */
+public final class MetricsRegistry {
+
+    private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * Creates an empty registry. The game uses the shared one, see {@link #getInstance()}.
+     */
+    public MetricsRegistry() {
+    }
+
+    /**
+     * Retrieves the shared instance of the registry.
+     *
+     * @return the registry of this JVM
+     */
+    public static MetricsRegistry getInstance() {
+        return MetricsRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Gets or creates a counter.
+     *
+     * @param name the name, ending in {@code _total} by convention
+     * @param help what the counter counts
+     * @return the counter of that name
+     */
+    public Counter counter(String name, String help) {
+        return register(name, Counter.class, new Counter(name, help));
+    }
+
+    /**
+     * Gets or creates a gauge.
+     *
+     * @param name the name
+     * @param help what the gauge measures
+     * @return the gauge of that name
+     */
+    public Gauge gauge(String name, String help) {
+        return register(name, Gauge.class, new Gauge(name, help));
+    }
+
+    /**
+     * Gets or creates a histogram of durations, recorded in nanoseconds and written in
+     * seconds, with buckets from 100 µs to 30 s.
+     *
+     * @param name the name, ending in {@code _seconds} by convention
+     * @param help what is timed
+     * @return the histogram of that name
+     */
+    public Histogram timer(String name, String help) {
+        return histogram(name, help, Histogram.NANOS_PER_SECOND, Histogram.DURATION_BOUNDS);
+    }
+
+    /**
+     * Gets or creates a histogram.
+     *
+     * @param name       the name
+     * @param help       what is observed
+     * @param rawPerUnit the recorded units per written unit, 1 to write values as recorded
+     * @param bounds     the increasing upper bounds of the buckets, in recorded units
+     * @return the histogram of that name
+     */
+    public Histogram histogram(String name, String help, double rawPerUnit, long... bounds) {
+        return register(name, Histogram.class, new Histogram(name, help, rawPerUnit, bounds));
+    }
+
+    private <T extends Metric> T register(String name, Class<T> type, T metric) {
+        Metric existing = metrics.putIfAbsent(name, metric);
+        if (existing == null) {
+            return metric;
+        }
+        if (!type.isInstance(existing)) {
+            throw new IllegalArgumentException(name + " is already registered as a " + existing.type());
+        }
+        return type.cast(existing);
+    }
+
+    /**
+     * Writes every metric in the Prometheus text format.
+     *
+     * @return the text, one sample per line
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Metric metric : metrics.values()) {
+            metric.write(out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Holder class for the shared instance, initialized on first use.
+     */
+    private static class MetricsRegistryHolder {
+        private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    }
+}
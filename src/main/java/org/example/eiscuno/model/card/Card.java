@@ -1,61 +1,145 @@
 package org.example.eiscuno.model.card;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
 import java.io.Serializable;
+import java.util.Arrays;
 
 /**
-     * Re-initializes the transient JavaFX components (Image and ImageView) after deserialization.
-     * This method is crucial and must be called after a Card object is loaded from a file
-     * to make it visible again on the UI, as JavaFX nodes are not serializable.
-*/
-public class Card implements Serializable {
-    private static final long serialVersionUID = 1L;
-
-    private final String url;
-    private final String value;
-    private final String color;
-    private final String type;
-
-    private transient Image image;
-    private transient ImageView cardImageView;
-
-    public Card(String url, String value, String color, String type) {
-        this.url = url;
-        this.value = value;
-        this.color = color;
-        this.type = type;
-        reinitializeImageView();
-    }
-
-    private ImageView createCardImageView() {
-        ImageView card = new ImageView(this.image);
-        card.setY(16);
-        card.setFitHeight(90);
-        card.setFitWidth(70);
-        return card;
-    }
-
-    public ImageView getCard() {
-        if (cardImageView == null) {
-            reinitializeImageView();
+ * Represents a card of the Uno game.
+ * <p>
+ * Cards are canonical: the JVM holds one instance per physical card of a full deck, so
+ * the two red fives are two different cards, and the same instance is dealt by every
+ * deck, game and session. A card is immutable, which makes it safe to share across
+ * threads, and its identity is the reference, or {@link #getId()}. Views find the image
+ * of a card in the {@link CardImageCache} from its face; the card holds no view state.
+ * </p>
+ */
+public final class Card implements Serializable {
+    private static final long serialVersionUID = 3L;
+
+    /** The number of physical cards of a full deck. */
+    public static final int COUNT;
+
+    private static final Card[] ALL;
+    /** The id of the first copy of each face, by card code; copies have consecutive ids. */
+    private static final int[] FIRST_ID = new int[CardCode.FACE_COUNT];
+    /** The number of copies of each face in a full deck, by card code. */
+    private static final int[] COPIES = new int[CardCode.FACE_COUNT];
+
+    static {
+        Card[] cards = new Card[EISCUnoEnum.values().length * 2];
+        int count = 0;
+        for (EISCUnoEnum face : EISCUnoEnum.values()) {
+            byte code = CardCode.of(face);
+            if (code == CardCode.NONE) {
+                continue;
+            }
+            // Every colored card except the zeros comes twice in the deck.
+            int copies = !CardCode.isWild(code) && CardCode.rankOf(code) != 0 ? 2 : 1;
+            FIRST_ID[code] = count;
+            COPIES[code] = copies;
+            for (int copy = 0; copy < copies; copy++) {
+                cards[count] = new Card(count, face, code);
+                count++;
+            }
         }
-        return cardImageView;
+        COUNT = count;
+        ALL = Arrays.copyOf(cards, count);
+    }
+
+    private final int id;
+    private final EISCUnoEnum face;
+    private final byte code;
+
+    private Card(int id, EISCUnoEnum face, byte code) {
+        this.id = id;
+        this.face = face;
+        this.code = code;
+    }
+
+    /**
+     * Gets a card by its id.
+     *
+     * @param id the id of the card, from 0 to {@link #COUNT} - 1
+     * @return the canonical card
+     * @throws IndexOutOfBoundsException if there is no such card
+     */
+    public static Card byId(int id) {
+        return ALL[id];
     }
 
-    public Image getImage() {
-        if (image == null) {
-            reinitializeImageView();
+    /**
+     * Gets the first copy of a face.
+     *
+     * @param face the enum constant of the card image
+     * @return the canonical card
+     * @throws IllegalArgumentException if the constant is not a card face
+     */
+    public static Card of(EISCUnoEnum face) {
+        return of(face, 0);
+    }
+
+    /**
+     * Gets a copy of a face, for instance the second red five.
+     *
+     * @param face the enum constant of the card image
+     * @param copy the copy, from 0 to {@link #copiesOf(EISCUnoEnum)} - 1
+     * @return the canonical card
+     * @throws IllegalArgumentException if the constant is not a card face or has no such copy
+     */
+    public static Card of(EISCUnoEnum face, int copy) {
+        int copies = copiesOf(face);
+        if (copies == 0) {
+            throw new IllegalArgumentException(face + " is not a card");
+        }
+        if (copy < 0 || copy >= copies) {
+            throw new IllegalArgumentException(face + " has no copy " + copy);
         }
-        return image;
+        return ALL[FIRST_ID[CardCode.of(face)] + copy];
+    }
+
+    /**
+     * Gets the number of copies of a face in a full deck.
+     *
+     * @param face the enum constant of an image
+     * @return the number of copies, 0 if the constant is not a card face
+     */
+    public static int copiesOf(EISCUnoEnum face) {
+        byte code = CardCode.of(face);
+        return code == CardCode.NONE ? 0 : COPIES[code];
     }
 
-    public void reinitializeImageView() {
-        this.image = new Image(String.valueOf(getClass().getResource(this.url)));
-        this.cardImageView = createCardImageView();
+    /**
+     * Copies every card of a full deck, in id order, into an array.
+     *
+     * @param target the array, at least {@link #COUNT} long
+     */
+    public static void copyFullDeck(Card[] target) {
+        System.arraycopy(ALL, 0, target, 0, COUNT);
     }
 
-    public String getValue() { return value; }
-    public String getColor() { return color; }
-    public String getType() { return type; }
-}
\ No newline at end of file
+    /**
+     * Deserializes to the canonical instance.
+     */
+    private Object readResolve() {
+        return ALL[id];
+    }
+
+    /**
+     * @return the id of this physical card, from 0 to {@link #COUNT} - 1
+     */
+    public int getId() { return id; }
+
+    /**
+     * @return the packed color and rank of this card, see {@link CardCode}
+     */
+    public byte getCode() { return code; }
+    public int getColorCode() { return CardCode.colorOf(code); }
+    public int getRank() { return CardCode.rankOf(code); }
+    public EISCUnoEnum getFace() { return face; }
+
+    public String getValue() { return CardCode.valueName(getRank()); }
+    public String getColor() { return CardCode.colorName(getColorCode()); }
+    public String getType() { return CardCode.typeName(getRank()); }
+}
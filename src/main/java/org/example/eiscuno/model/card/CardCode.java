@@ -0,0 +1,194 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+/**
+ * The {@code CardCode} class defines the compact identity of a card face.
+ * <p>
+ * Color and rank are packed into a single {@code byte}: colored faces use
+ * {@code color * 13 + rank} (codes 0 to 51) and the two wild faces use codes 52
+ * (WILD) and 53 (+4). Every face therefore fits in one bit of a {@code long}, and rule
+ * checks become integer comparisons and table lookups instead of string compares.
+ * </p>
+ * <p>
+ * Codes are derived once from the ordinals of {@link EISCUnoEnum}, so the enum stays
+ * the single source of truth for the card faces and their images.
+ * </p>
+ */
+public final class CardCode {
+
+    public static final int RED = 0;
+    public static final int GREEN = 1;
+    public static final int BLUE = 2;
+    public static final int YELLOW = 3;
+    public static final int WILD = 4;
+    /** Color of a table whose top card is a wild card and no color was chosen yet. */
+    public static final int NO_COLOR = -1;
+
+    public static final int SKIP = 10;
+    public static final int REVERSE = 11;
+    public static final int DRAW_TWO = 12;
+    public static final int WILD_RANK = 13;
+    public static final int WILD_DRAW_FOUR = 14;
+
+    /** Number of distinct card faces, and of valid codes. */
+    public static final int FACE_COUNT = 54;
+    /** Code returned for enum constants that are not cards (favicon, background...). */
+    public static final byte NONE = -1;
+
+    private static final int COLORED_RANKS = 13;
+    private static final String[] COLOR_NAMES = {"RED", "GREEN", "BLUE", "YELLOW", "WILD"};
+    private static final String[] VALUE_NAMES = {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9",
+            "SKIP", "REVERSE", "+2", "WILD", "+4"};
+
+    private static final byte[] COLOR_OF = new byte[FACE_COUNT];
+    private static final byte[] RANK_OF = new byte[FACE_COUNT];
+    private static final long[] COLOR_MASK = new long[COLOR_NAMES.length];
+    private static final long[] RANK_MASK = new long[VALUE_NAMES.length];
+    private static final byte[] BY_ORDINAL = new byte[EISCUnoEnum.values().length];
+    private static final EISCUnoEnum[] FACE_OF = new EISCUnoEnum[FACE_COUNT];
+
+    static {
+        for (int code = 0; code < FACE_COUNT; code++) {
+            int color = code < WILD * COLORED_RANKS ? code / COLORED_RANKS : WILD;
+            int rank = code < WILD * COLORED_RANKS ? code % COLORED_RANKS : WILD_RANK + code - WILD * COLORED_RANKS;
+            COLOR_OF[code] = (byte) color;
+            RANK_OF[code] = (byte) rank;
+            COLOR_MASK[color] |= 1L << code;
+            RANK_MASK[rank] |= 1L << code;
+        }
+        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
+            byte code = parse(cardEnum.name());
+            BY_ORDINAL[cardEnum.ordinal()] = code;
+            if (code != NONE) {
+                FACE_OF[code] = cardEnum;
+            }
+        }
+    }
+
+    private CardCode() {
+    }
+
+    /**
+     * Packs a color and a rank into a card code.
+     *
+     * @param color one of the color constants
+     * @param rank  one of the rank constants (0 to 9, SKIP, REVERSE, DRAW_TWO, WILD_RANK, WILD_DRAW_FOUR)
+     * @return the card code
+     */
+    public static byte of(int color, int rank) {
+        if (color == WILD) {
+            return (byte) (WILD * COLORED_RANKS + rank - WILD_RANK);
+        }
+        return (byte) (color * COLORED_RANKS + rank);
+    }
+
+    /**
+     * Gets the code of a card face.
+     *
+     * @param cardEnum the enum constant of the card image
+     * @return the card code, or {@link #NONE} if the constant is not a card
+     */
+    public static byte of(EISCUnoEnum cardEnum) {
+        return BY_ORDINAL[cardEnum.ordinal()];
+    }
+
+    /**
+     * Gets the card face of a code.
+     *
+     * @param code a card code
+     * @return the enum constant holding the image of the face
+     */
+    public static EISCUnoEnum faceOf(byte code) {
+        return FACE_OF[code];
+    }
+
+    public static int colorOf(byte code) { return COLOR_OF[code]; }
+    public static int rankOf(byte code) { return RANK_OF[code]; }
+    public static boolean isWild(byte code) { return COLOR_OF[code] == WILD; }
+
+    /**
+     * Gets the bit mask of every face of a color, with one bit per card code.
+     *
+     * @param color one of the color constants
+     * @return the mask, or 0 for {@link #NO_COLOR}
+     */
+    public static long colorMask(int color) {
+        return color == NO_COLOR ? 0L : COLOR_MASK[color];
+    }
+
+    /**
+     * Gets the bit mask of every face of a rank, with one bit per card code.
+     *
+     * @param rank one of the rank constants
+     * @return the mask
+     */
+    public static long rankMask(int rank) {
+        return RANK_MASK[rank];
+    }
+
+    public static String colorName(int color) {
+        return color == NO_COLOR ? null : COLOR_NAMES[color];
+    }
+
+    public static String valueName(int rank) {
+        return VALUE_NAMES[rank];
+    }
+
+    public static String typeName(int rank) {
+        return rank <= 9 ? "NUMBER" : "SPECIAL";
+    }
+
+    /**
+     * Parses a color name as used by the views ("RED", "GREEN", "BLUE", "YELLOW", "WILD").
+     *
+     * @param name the color name, may be null
+     * @return the color constant, or {@link #NO_COLOR} if the name is null or unknown
+     */
+    public static int parseColor(String name) {
+        if (name != null) {
+            for (int color = 0; color < COLOR_NAMES.length; color++) {
+                if (COLOR_NAMES[color].equals(name)) {
+                    return color;
+                }
+            }
+        }
+        return NO_COLOR;
+    }
+
+    /**
+     * Parses a value name as returned by {@link Card#getValue()}.
+     *
+     * @param name the value name
+     * @return the rank constant
+     * @throws IllegalArgumentException if the value is unknown
+     */
+    public static int parseRank(String name) {
+        for (int rank = 0; rank < VALUE_NAMES.length; rank++) {
+            if (VALUE_NAMES[rank].equals(name)) {
+                return rank;
+            }
+        }
+        throw new IllegalArgumentException("Unknown card value: " + name);
+    }
+
+    private static byte parse(String name) {
+        if (name.contains("CARD") || name.contains("BACKGROUND") || name.contains("BUTTON")
+                || name.contains("FAVICON") || name.contains("UNO") || name.contains("DECK")) {
+            return NONE;
+        }
+        if (name.contains("FOUR_WILD_DRAW")) return of(WILD, WILD_DRAW_FOUR);
+        if (name.equals("WILD")) return of(WILD, WILD_RANK);
+
+        int color;
+        if (name.contains("GREEN")) color = GREEN;
+        else if (name.contains("YELLOW")) color = YELLOW;
+        else if (name.contains("BLUE")) color = BLUE;
+        else color = RED;
+
+        if (name.contains("SKIP")) return of(color, SKIP);
+        if (name.contains("RESERVE")) return of(color, REVERSE);
+        if (name.contains("TWO_WILD_DRAW")) return of(color, DRAW_TWO);
+        return of(color, name.charAt(name.length() - 1) - '0');
+    }
+}
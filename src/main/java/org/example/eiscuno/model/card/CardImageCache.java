@@ -0,0 +1,84 @@
+package org.example.eiscuno.model.card;
+
+import javafx.scene.image.Image;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared cache of the decoded images of the game, keyed by {@link EISCUnoEnum}.
+ * <p>
+ * Every face is decoded at most once per JVM and the same {@link Image} is then shared
+ * by every card, deck, reloaded game and new game. Images are immutable once loaded,
+ * so they can be shared safely; each view still creates its own {@code ImageView}.
+ * The cache is thread-safe: lookups of a loaded image are a single volatile read, and
+ * the first request of a face decodes it while holding a lock.
+ * </p>
+ */
+public final class CardImageCache {
+
+    private final AtomicReferenceArray<Image> images = new AtomicReferenceArray<>(EISCUnoEnum.values().length);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private CardImageCache() {
+    }
+
+    /**
+     * Retrieves the shared instance of the cache.
+     *
+     * @return the cache of this JVM
+     */
+    public static CardImageCache getInstance() {
+        return CardImageCacheHolder.INSTANCE;
+    }
+
+    /**
+     * Gets the image of the given face, decoding it on the first request.
+     *
+     * @param face the enum constant of the image
+     * @return the shared decoded image
+     */
+    public Image get(EISCUnoEnum face) {
+        int index = face.ordinal();
+        Image image = images.get(index);
+        if (image != null) {
+            hits.increment();
+            return image;
+        }
+        synchronized (this) {
+            image = images.get(index);
+            if (image == null) {
+                image = new Image(Objects.requireNonNull(CardImageCache.class.getResource(face.getFilePath())).toString());
+                images.set(index, image);
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+        }
+        return image;
+    }
+
+    /**
+     * @return the number of requests served with an already decoded image
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of requests that had to decode an image, i.e. the number of decodes
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Holder class for the shared instance, initialized on first use.
+     */
+    private static class CardImageCacheHolder {
+        private static final CardImageCache INSTANCE = new CardImageCache();
+    }
+}
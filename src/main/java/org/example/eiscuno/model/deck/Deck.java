@@ -1,90 +1,175 @@
 package org.example.eiscuno.model.deck;
 
-import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
 
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.Stack;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
 
+/**
+ * The draw pile of a game, an array of cards with the top at the end.
+ * <p>
+ * Taking and putting back a card are unsynchronized array operations: a deck belongs to
+ * one game, which is only changed by one thread at a time. The cards are the canonical
+ * instances of {@link Card}, so {@link #reset(long)} deals a new game by copying them
+ * back and reshuffling in place, without allocating anything.
+ * </p>
+ * <p>
+ * The deck shuffles with its own SplitMix64 generator, a single {@code long} of state,
+ * so re-seeding it for a new game is an assignment rather than a new random object.
+ * </p>
+ */
 public class Deck implements Serializable {
     
-    private static final long serialVersionUID = 1L; 
+    private static final long serialVersionUID = 4L; 
 
-    private Stack<Card> deckOfCards;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
 
+    private Card[] deckOfCards;
+    private int size;
+    /** The state of the generator that shuffles this deck. */
+    private long shuffleSeed;
+
+    /**
+     * Creates a full deck shuffled with a fresh random stream.
+     */
     public Deck() {
-        this.deckOfCards = new Stack<>();
-        initializeDeck();
-        Collections.shuffle(deckOfCards);
+        this(new SplittableRandom());
     }
 
-    private void initializeDeck() {
-        CardFactory factory = new CardFactory();
-        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
-            if (cardEnum.name().contains("CARD") || cardEnum.name().contains("BACKGROUND") || cardEnum.name().contains("BUTTON") || cardEnum.name().contains("FAVICON") || cardEnum.name().contains("UNO") || cardEnum.name().contains("DECK")) {
-                continue;
-            }
-            deckOfCards.push(factory.createCard(cardEnum));
-            if (isDuplicatedCard(cardEnum.name())) {
-                deckOfCards.push(factory.createCard(cardEnum));
-            }
-        }
+    /**
+     * Creates a full deck seeded from the given stream; the seed also shuffles the
+     * recycled discard pile later on. The same seed always gives the same deck, so a game
+     * can be replayed from its seed.
+     *
+     * @param random the stream the seed of this deck is drawn from
+     */
+    public Deck(SplittableRandom random) {
+        this.shuffleSeed = random.nextLong();
+        this.deckOfCards = new Card[Card.COUNT];
+        reset();
     }
-    
-    private boolean isDuplicatedCard(String name) {
-        return !name.contains("_0") && (name.startsWith("GREEN_") ||
-                name.startsWith("YELLOW_") ||
-                name.startsWith("BLUE_") ||
-                name.startsWith("RED_") ||
-                name.startsWith("SKIP_") ||
-                name.startsWith("RESERVE_") ||
-                name.startsWith("TWO_WILD_DRAW_"));
+
+    /**
+     * Creates a deck holding exactly the given cards, without shuffling them. Used to
+     * restore a saved game.
+     *
+     * @param cards the cards of the deck, from the bottom to the top
+     */
+    public Deck(List<Card> cards) {
+        this.deckOfCards = cards.toArray(new Card[Math.max(cards.size(), Card.COUNT)]);
+        this.size = cards.size();
+        this.shuffleSeed = new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Creates a deck with the same cards in the same order. The copy has its own fresh
+     * seed, so copying leaves the generator of this deck untouched.
+     *
+     * @return the copy
+     */
+    public Deck copy() {
+        return new Deck(Arrays.asList(deckOfCards).subList(0, size));
     }
 
     public Card takeCard() {
-        if (deckOfCards.isEmpty()) {
+        if (size == 0) {
             throw new IllegalStateException("No hay más cartas en el mazo.");
         }
-        return deckOfCards.pop();
+        Card card = deckOfCards[--size];
+        deckOfCards[size] = null;
+        return card;
     }
 
-    public boolean isEmpty() {
-        return deckOfCards.isEmpty();
+    /**
+     * Puts a card back into the deck, on top. Used to recycle the discard pile.
+     *
+     * @param card the card to put back
+     */
+    public void putBack(Card card) {
+        if (size == deckOfCards.length) {
+            deckOfCards = Arrays.copyOf(deckOfCards, size * 2);
+        }
+        deckOfCards[size++] = card;
     }
 
-    private static class CardFactory {
-        public Card createCard(EISCUnoEnum cardEnum) {
-            String name = cardEnum.name();
-            String path = cardEnum.getFilePath();
-            String color = parseColor(name);
-            String value = parseValue(name);
-            String type = parseType(name);
-            return new Card(path, value, color, type);
+    /**
+     * Shuffles the remaining cards in place with the generator of this deck
+     * (Fisher-Yates).
+     */
+    public void shuffle() {
+        Card[] cards = deckOfCards;
+        for (int i = size - 1; i > 0; i--) {
+            int j = nextIndex(i + 1);
+            Card card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
         }
+    }
 
-        private String parseColor(String name) {
-            if (name.contains("GREEN")) return "GREEN";
-            if (name.contains("YELLOW")) return "YELLOW";
-            if (name.contains("BLUE")) return "BLUE";
-            if (name.contains("RED")) return "RED";
-            return "WILD";
-        }
+    /**
+     * Draws the next index below a bound from the SplitMix64 generator. The bias of the
+     * multiply-shift reduction is below 2^-25 for a deck, far too small to matter.
+     */
+    private int nextIndex(int bound) {
+        long z = shuffleSeed += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (int) (((z >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Refills the deck with every card and shuffles them with a new seed, as for
+     * a new game. The cards are taken back from wherever they were: the hands and the
+     * table of the previous game must be emptied by the caller.
+     *
+     * @param seed the seed of the new game
+     */
+    public void reset(long seed) {
+        shuffleSeed = seed;
+        reset();
+    }
 
-        private String parseValue(String name) {
-            if (name.contains("SKIP")) return "SKIP";
-            if (name.contains("RESERVE")) return "REVERSE";
-            if (name.contains("TWO_WILD_DRAW")) return "+2";
-            if (name.contains("FOUR_WILD_DRAW")) return "+4";
-            if (name.contains("WILD")) return "WILD";
-            return name.replaceAll("\\D+", "");
+    /**
+     * Refills the deck with every card and shuffles them with the current generator of
+     * the deck. Allocates nothing.
+     */
+    public void reset() {
+        if (deckOfCards.length < Card.COUNT) {
+            deckOfCards = new Card[Card.COUNT];
         }
+        Card.copyFullDeck(deckOfCards);
+        Arrays.fill(deckOfCards, Card.COUNT, deckOfCards.length, null);
+        size = Card.COUNT;
+        shuffle();
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the number of cards left
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
 
-        private String parseType(String name) {
-            if (name.matches(".*\\d.*")) {
-                return "NUMBER";
-            }
-            return "SPECIAL";
+    /**
+     * Gets the remaining cards as compact card codes, from the bottom to the top of the deck.
+     *
+     * @return a new array with one {@link CardCode} per remaining card
+     */
+    public byte[] toCardCodes() {
+        byte[] codes = new byte[size];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = deckOfCards[i].getCode();
         }
+        return codes;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package org.example.eiscuno.model.event;
+
+import org.example.eiscuno.model.card.CardCode;
+
+/**
+ * Something that happened in a game, as published by its {@link GameEventPublisher}.
+ * <p>
+ * Events are immutable and carry what a subscriber needs to do its work without reading
+ * the game, which may already have moved on when the event is delivered on another thread.
+ * Fields that do not apply to the {@link GameEventType} are -1, or {@link CardCode#NONE}
+ * for the card.
+ * </p>
+ */
+public final class GameEvent {
+    private final GameEventType type;
+    private final int seat;
+    private final byte card;
+    private final int count;
+    private final int handSize;
+    private final int color;
+
+    private GameEvent(GameEventType type, int seat, byte card, int count, int handSize, int color) {
+        this.type = type;
+        this.seat = seat;
+        this.card = card;
+        this.count = count;
+        this.handSize = handSize;
+        this.color = color;
+    }
+
+    /** A player played a card; the hand size is counted after the play. */
+    public static GameEvent cardPlayed(int seat, byte card, int handSize) {
+        return new GameEvent(GameEventType.CARD_PLAYED, seat, card, 1, handSize, -1);
+    }
+
+    /** A player drew cards; the hand size is counted after the draw. */
+    public static GameEvent cardsDrawn(int seat, int count, int handSize) {
+        return new GameEvent(GameEventType.CARDS_DRAWN, seat, CardCode.NONE, count, handSize, -1);
+    }
+
+    /** The active color was chosen. */
+    public static GameEvent colorChosen(int color) {
+        return new GameEvent(GameEventType.COLOR_CHOSEN, -1, CardCode.NONE, -1, -1, color);
+    }
+
+    /** The turn moved to a seat. */
+    public static GameEvent turnChanged(int seat) {
+        return new GameEvent(GameEventType.TURN_CHANGED, seat, CardCode.NONE, -1, -1, -1);
+    }
+
+    /** The direction of play was flipped. */
+    public static GameEvent directionReversed() {
+        return new GameEvent(GameEventType.DIRECTION_REVERSED, -1, CardCode.NONE, -1, -1, -1);
+    }
+
+    /** The discard pile was shuffled back into the deck. */
+    public static GameEvent deckRecycled() {
+        return new GameEvent(GameEventType.DECK_RECYCLED, -1, CardCode.NONE, -1, -1, -1);
+    }
+
+    /** A player called "UNO". */
+    public static GameEvent unoCalled(int seat, int handSize) {
+        return new GameEvent(GameEventType.UNO_CALLED, seat, CardCode.NONE, -1, handSize, -1);
+    }
+
+    /** A player emptied their hand and won. */
+    public static GameEvent gameOver(int winnerSeat) {
+        return new GameEvent(GameEventType.GAME_OVER, winnerSeat, CardCode.NONE, -1, 0, -1);
+    }
+
+    /**
+     * @return what happened
+     */
+    public GameEventType getType() { return type; }
+
+    /**
+     * @return the seat of the player concerned, or -1
+     */
+    public int getSeat() { return seat; }
+
+    /**
+     * @return the {@code CardCode} of the played card, or {@link CardCode#NONE}
+     */
+    public byte getCard() { return card; }
+
+    /**
+     * @return the number of cards drawn or played, or -1
+     */
+    public int getCount() { return count; }
+
+    /**
+     * @return the size of the player's hand right after the event, or -1
+     */
+    public int getHandSize() { return handSize; }
+
+    /**
+     * @return the chosen {@code CardCode} color, or -1
+     */
+    public int getColor() { return color; }
+
+    @Override
+    public String toString() {
+        return type + "{seat=" + seat + ", card=" + card + ", count=" + count + ", handSize=" + handSize
+                + ", color=" + color + "}";
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.eiscuno.model.event;
+
+import java.util.List;
+
+/**
+ * Receives the events of a game in batches, see {@link GameEventPublisher#subscribe}.
+ */
+public interface GameEventListener {
+
+    /**
+     * Called with the events published since the previous call, in the order they
+     * happened. Calls for one subscription never overlap.
+     *
+     * @param events at least one event; the list cannot be modified
+     */
+    void onEvents(List<GameEvent> events);
+}
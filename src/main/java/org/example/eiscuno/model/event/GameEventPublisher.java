@@ -0,0 +1,124 @@
+package org.example.eiscuno.model.event;
+
+import org.example.eiscuno.concurrent.SerialMailbox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Delivers the events of a game to its subscribers, asynchronously and in batches.
+ * <p>
+ * Publishing appends the event to the {@link SerialMailbox} of each subscription and, if the
+ * subscription is idle, schedules one delivery on its executor. The delivery drains up to
+ * {@value #BATCH} events into a single call, so a burst of changes, e.g. a +4 followed by a
+ * color and a turn change, costs a subscriber one call. With no subscriber, publishing
+ * costs a volatile read. Events keep their order within a subscription.
+ * </p>
+ * <p>
+ * Persistence does not subscribe here: a {@code GameJournal} is called synchronously,
+ * because its snapshots must capture the game at the moment of the change.
+ * </p>
+ */
+public final class GameEventPublisher {
+
+    private static final int BATCH = 256;
+
+    private volatile Subscription[] subscriptions = new Subscription[0];
+
+    /**
+     * Starts delivering the following events to a listener.
+     *
+     * @param listener the listener
+     * @param executor where the listener is called, e.g. {@code Platform::runLater}
+     * @return the subscription, to be closed to stop the deliveries
+     */
+    public Subscription subscribe(GameEventListener listener, Executor executor) {
+        Subscription subscription = new Subscription(listener, executor);
+        synchronized (this) {
+            Subscription[] current = subscriptions;
+            Subscription[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = subscription;
+            subscriptions = next;
+        }
+        return subscription;
+    }
+
+    /**
+     * @return true if at least one listener is subscribed
+     */
+    public boolean hasSubscribers() {
+        return subscriptions.length > 0;
+    }
+
+    /**
+     * Queues an event for every subscriber.
+     *
+     * @param event the event
+     */
+    public void publish(GameEvent event) {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    private synchronized void remove(Subscription subscription) {
+        Subscription[] current = subscriptions;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == subscription) {
+                Subscription[] next = new Subscription[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, next.length - i);
+                subscriptions = next;
+                return;
+            }
+        }
+    }
+
+    /**
+     * The mailbox of one listener.
+     */
+    public final class Subscription extends SerialMailbox<GameEvent> implements AutoCloseable {
+        private final GameEventListener listener;
+        private volatile boolean closed;
+
+        private Subscription(GameEventListener listener, Executor executor) {
+            super(executor);
+            this.listener = listener;
+        }
+
+        private void offer(GameEvent event) {
+            enqueue(event);
+        }
+
+        @Override
+        protected void drain() {
+            List<GameEvent> batch = new ArrayList<>();
+            for (GameEvent event = poll(); event != null; event = poll()) {
+                batch.add(event);
+                if (batch.size() == BATCH) {
+                    break;
+                }
+            }
+            if (!batch.isEmpty() && !closed) {
+                try {
+                    listener.onEvents(Collections.unmodifiableList(batch));
+                } catch (RuntimeException e) {
+                    System.err.println("A game event listener failed.");
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        /**
+         * Stops the deliveries. Events already queued are dropped.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            remove(this);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.eiscuno.model.event;
+
+/**
+ * The kinds of {@link GameEvent} a game publishes.
+ */
+public enum GameEventType {
+    /** A player played a card from their hand: seat, card and hand size are set. */
+    CARD_PLAYED,
+    /** A player drew cards: seat, count and hand size are set. */
+    CARDS_DRAWN,
+    /** The active color was chosen after a WILD or +4: color is set. */
+    COLOR_CHOSEN,
+    /** The turn moved to another player: seat is set. */
+    TURN_CHANGED,
+    /** A REVERSE flipped the direction of play. */
+    DIRECTION_REVERSED,
+    /** The discard pile was shuffled back into the empty deck. */
+    DECK_RECYCLED,
+    /** A player called "UNO": seat and hand size are set. */
+    UNO_CALLED,
+    /** A player emptied their hand: seat is set to the winner. */
+    GAME_OVER
+}
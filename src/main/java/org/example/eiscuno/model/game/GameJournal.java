@@ -0,0 +1,53 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * Receives every state change of a {@link GameUno} as it happens, so the game can be
+ * persisted move by move and rebuilt later by replaying the same changes in order.
+ * <p>
+ * Players are identified by their seat, see {@link GameUno#getPlayer(int)}. Implementations are called on the thread that changes the game and must
+ * return quickly.
+ * </p>
+ */
+public interface GameJournal {
+
+    /**
+     * Called after a player drew cards from the deck.
+     *
+     * @param seat  the seat of the player who drew
+     * @param count the number of cards actually drawn
+     */
+    void onCardsDrawn(int seat, int count);
+
+    /**
+     * Called after a player played a card from their hand onto the table.
+     *
+     * @param seat      the seat of the player who played
+     * @param handIndex the position the card had in the player's hand
+     */
+    void onCardPlayed(int seat, int handIndex);
+
+    /**
+     * Called after the active color of the table was chosen.
+     *
+     * @param color the chosen {@code CardCode} color
+     */
+    void onColorChosen(int color);
+
+    /**
+     * Called after the turn moved to another player.
+     *
+     * @param seat the seat of the player whose turn it is
+     */
+    void onTurnChanged(int seat);
+
+    /**
+     * Called after a REVERSE card flipped the direction of play.
+     */
+    void onDirectionReversed();
+
+    /**
+     * Called after the discard pile was shuffled back into the empty deck. The new order
+     * of the deck is random, so it cannot be rebuilt from the changes before it.
+     */
+    void onDeckRecycled();
+}
@@ -1,10 +1,16 @@
 package org.example.eiscuno.model.game;
 
+import org.example.eiscuno.jfr.CardPlayedEvent;
+import org.example.eiscuno.jfr.CardsDrawnEvent;
+import org.example.eiscuno.jfr.UnoCalledEvent;
 import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.event.GameEventPublisher;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Constructs a new instance of GameUnoStage. It loads the FXML file for the
@@ -19,8 +25,8 @@ import java.io.Serializable;
  */
 /**
  * The {@code GameUno} class implements the core logic for a UNO card game session,
- * managing the state and interactions between a human player, a machine player,
- * the deck of cards, and the table. It provides methods to start the game,
+ * managing the state and interactions between the players seated around the table
+ * (two to ten, any mix of human and machine players), the deck of cards, and the table. It provides methods to start the game,
  * handle card drawing, playing cards, managing the "UNO" call, and determining
  * the end of the game.
  * <p>
@@ -36,6 +42,8 @@ import java.io.Serializable;
  *   <li>Handling the play of cards onto the table</li>
  *   <li>Managing the "UNO" call and its consequences</li>
  *   <li>Tracking the current turn and determining when the game is over</li>
+ *   <li>Keeping the turn order: an array of seats, the current seat and a direction that
+ *       REVERSE flips, so the next player is found with index arithmetic</li>
  * </ul>
  * </p>
  *
@@ -55,17 +63,29 @@ import java.io.Serializable;
  * @see Table
  */
 public class GameUno implements IGameUno, Serializable {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
-    private Player humanPlayer;
-    private Player machinePlayer;
+    /** The fewest players a game can have. */
+    public static final int MIN_SEATS = 2;
+    /** The most players a game can have. */
+    public static final int MAX_SEATS = 10;
+
+    private final Player[] seats;
     private Deck deck;
     private Table table;
-    private String currentTurn;
+    private int currentSeat;
+    private int direction = 1;
+    /** The number of draws that found the deck empty, see {@link #getEmptyDeckDraws()}. */
+    private transient int emptyDeckDraws;
+    private transient GameJournal journal;
+    private transient GameEventPublisher events;
+    private transient long sessionId = NEXT_SESSION_ID.incrementAndGet();
+
+    private static final AtomicLong NEXT_SESSION_ID = new AtomicLong();
 
     /**
-     * Constructs a new GameUno instance with the specified players, deck, and
-     * table.
+     * Constructs a new two-player GameUno instance with the specified players, deck, and
+     * table. The human player sits at seat 0 and plays first.
      *
      * @param humanPlayer   The player representing the human participant
      * @param machinePlayer The player representing the machine participant
@@ -73,81 +93,445 @@ public class GameUno implements IGameUno, Serializable {
      * @param table         The table where the game is played
      */
     public GameUno(Player humanPlayer, Player machinePlayer, Deck deck, Table table) {
-        this.humanPlayer = humanPlayer;
-        this.machinePlayer = machinePlayer;
+        this(new Player[]{humanPlayer, machinePlayer}, deck, table);
+    }
+
+    /**
+     * Constructs a new GameUno instance with players seated in turn order. Seat 0 plays
+     * first.
+     *
+     * @param seats the players, from {@value #MIN_SEATS} to {@value #MAX_SEATS}
+     * @param deck  The deck of cards used in the game
+     * @param table The table where the game is played
+     * @throws IllegalArgumentException if the number of players is not supported
+     */
+    public GameUno(Player[] seats, Deck deck, Table table) {
+        if (seats.length < MIN_SEATS || seats.length > MAX_SEATS) {
+            throw new IllegalArgumentException("A game needs " + MIN_SEATS + " to " + MAX_SEATS
+                    + " players, not " + seats.length);
+        }
+        this.seats = seats.clone();
         this.deck = deck;
         this.table = table;
-        this.currentTurn = "HUMAN_PLAYER";
     }
 
     /**
-     * Default constructor for GameUno, initializes players, deck, and table.
+     * Deals five cards to every player.
      */
     @Override
     public void startGame() {
         for (int i = 0; i < 5; i++) {
-            humanPlayer.addCard(this.deck.takeCard());
-            machinePlayer.addCard(this.deck.takeCard());
+            for (Player player : seats) {
+                player.addCard(this.deck.takeCard());
+            }
+        }
+    }
+
+    /**
+     * Takes every card back from the hands and the table, reshuffles the whole deck with
+     * a new seed and gives the turn to seat 0 again, reusing every object of the game.
+     * Call {@link #startGame()} to deal. Nothing is journaled: this is meant for
+     * simulations that play many games in a row, not for a saved game.
+     *
+     * @param seed the seed of the new game's deck
+     */
+    public void restart(long seed) {
+        for (Player player : seats) {
+            player.removeAllCards();
+        }
+        table.clear();
+        deck.reset(seed);
+        currentSeat = 0;
+        direction = 1;
+        emptyDeckDraws = 0;
+    }
+
+    /**
+     * Creates a detached copy of the game: new players, table and deck holding the same
+     * cards, the same turn, direction and session id, with no journal and no subscribers.
+     * Must be called by the thread that owns the game; the copy can then be read by
+     * another thread, e.g. by a machine strategy, while the game goes on.
+     *
+     * @return the copy
+     */
+    public GameUno copy() {
+        Player[] players = new Player[seats.length];
+        for (int seat = 0; seat < seats.length; seat++) {
+            players[seat] = seats[seat].copy();
         }
+        GameUno copy = new GameUno(players, deck.copy(), table.copy());
+        copy.currentSeat = currentSeat;
+        copy.direction = direction;
+        copy.emptyDeckDraws = emptyDeckDraws;
+        copy.sessionId = sessionId;
+        return copy;
     }
- 
-    
+
+    /**
+     * Makes a player draw cards. When the deck runs dry, the discard pile except its top
+     * card is shuffled back into the deck; draws are only skipped when both are exhausted.
+     */
     @Override
     public void eatCard(Player player, int numberOfCards) {
+        CardsDrawnEvent trace = new CardsDrawnEvent();
+        trace.begin();
+        int drawn = 0;
+        int total = 0;
         for (int i = 0; i < numberOfCards; i++) {
-            if (!deck.isEmpty()) {
-                player.addCard(this.deck.takeCard());
+            if (deck.isEmpty()) {
+                emptyDeckDraws++;
+                journalDraw(player, drawn);
+                drawn = 0;
+                if (!recycleDiscardPile()) {
+                    break;
+                }
             }
+            player.addCard(this.deck.takeCard());
+            drawn++;
+            total++;
         }
+        journalDraw(player, drawn);
+        trace.record(this, player, numberOfCards, total);
     }
 
+    private void journalDraw(Player player, int drawn) {
+        if (drawn == 0) {
+            return;
+        }
+        if (journal != null) {
+            journal.onCardsDrawn(seatOf(player), drawn);
+        }
+        if (isPublishing()) {
+            events.publish(GameEvent.cardsDrawn(seatOf(player), drawn, player.getCardsPlayer().size()));
+        }
+    }
+
+    /**
+     * Shuffles the cards under the top card of the table back into the deck.
+     *
+     * @return false if there was no card to recycle
+     */
+    private boolean recycleDiscardPile() {
+        if (table.moveCardsUnderTopTo(deck) == 0) {
+            return false;
+        }
+        deck.shuffle();
+        if (journal != null) {
+            journal.onDeckRecycled();
+        }
+        if (isPublishing()) {
+            events.publish(GameEvent.deckRecycled());
+        }
+        return true;
+    }
+
+    /**
+     * Puts a card on the table without taking it from a hand, e.g. the first card of the
+     * game. This change is not journaled.
+     *
+     * @param card the card to be played
+     */
     @Override
     public void playCard(Card card) {
         this.table.addCardOnTheTable(card);
     }
 
-    @Override
-    public void haveSungOne(String playerWhoSang) {
-        if (playerWhoSang.equals("HUMAN_PLAYER")) {
-            machinePlayer.addCard(this.deck.takeCard());
-        } else {
-            humanPlayer.addCard(this.deck.takeCard());
+    /**
+     * Plays a card from a player's hand onto the table.
+     *
+     * @param player    the player who plays the card
+     * @param handIndex the position of the card in the player's hand
+     * @return the played card
+     */
+    public Card playCardFromHand(Player player, int handIndex) {
+        CardPlayedEvent trace = new CardPlayedEvent();
+        trace.begin();
+        Card card = player.getCard(handIndex);
+        player.removeCard(handIndex);
+        this.table.addCardOnTheTable(card);
+        if (journal != null) {
+            journal.onCardPlayed(seatOf(player), handIndex);
         }
+        if (isPublishing()) {
+            int seat = seatOf(player);
+            int handSize = player.getCardsPlayer().size();
+            events.publish(GameEvent.cardPlayed(seat, card.getCode(), handSize));
+            if (handSize == 0) {
+                events.publish(GameEvent.gameOver(seat));
+            }
+        }
+        trace.record(this, player, card);
+        return card;
     }
 
-    @Override
-    public Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow) {
-        int totalCards = this.humanPlayer.getCardsPlayer().size();
-        int numVisibleCards = Math.min(4, totalCards - posInitCardToShow);
-        if (numVisibleCards < 0)
-            numVisibleCards = 0;
+    /**
+     * Sets the color enforced by the table after a WILD or +4 card.
+     *
+     * @param color the chosen {@code CardCode} color
+     */
+    public void setActiveColor(int color) {
+        this.table.setActiveColor(color);
+        if (journal != null) {
+            journal.onColorChosen(color);
+        }
+        if (isPublishing()) {
+            events.publish(GameEvent.colorChosen(color));
+        }
+    }
+
+    /**
+     * Records that a player called "UNO". The call itself changes nothing in the game, it
+     * is only published to the subscribers of {@link #getEvents()}.
+     *
+     * @param player the player who called
+     */
+    public void callUno(Player player) {
+        UnoCalledEvent trace = new UnoCalledEvent();
+        trace.begin();
+        if (isPublishing()) {
+            events.publish(GameEvent.unoCalled(seatOf(player), player.getCardsPlayer().size()));
+        }
+        trace.record(this, player, -1);
+    }
 
-        Card[] cards = new Card[numVisibleCards];
-        for (int i = 0; i < numVisibleCards; i++) {
-            cards[i] = this.humanPlayer.getCard(posInitCardToShow + i);
+    /**
+     * Penalizes with one card the player who plays after the one who shouted "UNO" first,
+     * i.e. the opponent in a two-player game.
+     */
+    @Override
+    public void haveSungOne(String playerWhoSang) {
+        UnoCalledEvent trace = new UnoCalledEvent();
+        trace.begin();
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat].getTypePlayer().equals(playerWhoSang)) {
+                int penalized = nextSeat(seat);
+                eatCard(seats[penalized], 1);
+                trace.record(this, seats[seat], penalized);
+                return;
+            }
         }
-        return cards;
     }
 
+    /**
+     * The game is over as soon as one player has no cards left.
+     */
     @Override
     public Boolean isGameOver() {
-        return humanPlayer.getCardsPlayer().isEmpty() || machinePlayer.getCardsPlayer().isEmpty();
+        for (Player player : seats) {
+            if (player.getCardsPlayer().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
     }
 
+    /**
+     * Gets the type of the player whose turn it is, e.g. "HUMAN_PLAYER".
+     *
+     * @return the type of the current player
+     */
     public String getCurrentTurn() {
-        return this.currentTurn;
+        return seats[currentSeat].getTypePlayer();
     }
 
+    /**
+     * Gives the turn to the first seat, starting from the current one, whose player has
+     * the given type. Prefer {@link #setCurrentSeat(int)} with more than one player of a type.
+     *
+     * @param turn the type of the player, e.g. "MACHINE_PLAYER"
+     */
     public void setCurrentTurn(String turn) {
-        this.currentTurn = turn;
+        for (int step = 0; step < seats.length; step++) {
+            int seat = seatAfter(currentSeat, step);
+            if (seats[seat].getTypePlayer().equals(turn)) {
+                setCurrentSeat(seat);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("No player of type " + turn);
+    }
+
+    /**
+     * Counts the draws, voluntary or forced, that found the deck empty and had to recycle
+     * the discard pile or were skipped, since this game was created or restarted. Not saved.
+     *
+     * @return the number of draws from an empty deck
+     */
+    public int getEmptyDeckDraws() {
+        return emptyDeckDraws;
+    }
+
+    /**
+     * @return the seat of the player whose turn it is
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Gives the turn to a seat.
+     *
+     * @param seat the seat of the player who plays next
+     */
+    public void setCurrentSeat(int seat) {
+        this.currentSeat = seat;
+        if (journal != null) {
+            journal.onTurnChanged(seat);
+        }
+        if (isPublishing()) {
+            events.publish(GameEvent.turnChanged(seat));
+        }
+    }
+
+    /**
+     * @return the player whose turn it is
+     */
+    public Player getCurrentPlayer() {
+        return seats[currentSeat];
+    }
+
+    /**
+     * @return 1 while the turn goes up the seats, -1 after an odd number of REVERSE cards
+     */
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Flips the direction of play.
+     */
+    public void reverseDirection() {
+        direction = -direction;
+        if (journal != null) {
+            journal.onDirectionReversed();
+        }
+        if (isPublishing()) {
+            events.publish(GameEvent.directionReversed());
+        }
+    }
+
+    /**
+     * Gets the seat a number of turns after a seat, in the current direction of play.
+     *
+     * @param seat  the starting seat
+     * @param steps the number of turns to move
+     * @return the seat reached
+     */
+    public int seatAfter(int seat, int steps) {
+        return Math.floorMod(seat + direction * steps, seats.length);
+    }
+
+    /**
+     * Gets the seat that plays after a seat, in the current direction of play.
+     *
+     * @param seat the starting seat
+     * @return the next seat
+     */
+    public int nextSeat(int seat) {
+        return seatAfter(seat, 1);
+    }
+
+    /**
+     * Sets the journal that receives every following change of this game, or null to stop
+     * journaling.
+     *
+     * @param journal the journal to notify
+     */
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Gets the identifier that tags the diagnostics of this game, such as its Flight
+     * Recorder events. Unique in the JVM unless replaced with {@link #setSessionId(long)}.
+     *
+     * @return the session identifier
+     */
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Tags this game with the identifier of the session that hosts it.
+     *
+     * @param sessionId the session identifier
+     */
+    public void setSessionId(long sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Gets the publisher of the events of this game, to subscribe to them. Events are only
+     * built while someone is subscribed.
+     *
+     * @return the publisher, created on the first call
+     */
+    public GameEventPublisher getEvents() {
+        if (events == null) {
+            events = new GameEventPublisher();
+        }
+        return events;
+    }
+
+    private boolean isPublishing() {
+        return events != null && events.hasSubscribers();
+    }
+
+    /**
+     * @return the number of players
+     */
+    public int getSeatCount() {
+        return seats.length;
     }
 
+    /**
+     * Gets the seat of a player.
+     *
+     * @param player one of the players of this game
+     * @return the seat of the player
+     * @throws IllegalArgumentException if the player does not play this game
+     */
+    public int seatOf(Player player) {
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] == player) {
+                return seat;
+            }
+        }
+        throw new IllegalArgumentException("The player does not play this game");
+    }
+
+    /**
+     * Gets the player sitting at a seat.
+     *
+     * @param seat the seat, from 0 to {@link #getSeatCount()} - 1
+     * @return the player at that seat
+     */
+    public Player getPlayer(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * @return the player at seat 0, the human player of the desktop game
+     */
     public Player getHumanPlayer() {
-        return humanPlayer;
+        return seats[0];
     }
 
+    /**
+     * @return the player at seat 1, the machine player of the desktop game
+     */
     public Player getMachinePlayer() {
-        return machinePlayer;
+        return seats[1];
+    }
+
+    /**
+     * Gets the player who plays after the given one, in the current direction of play.
+     *
+     * @param player one of the players of this game
+     * @return the next player
+     */
+    public Player getNextPlayer(Player player) {
+        return seats[nextSeat(seatOf(player))];
     }
 
     public Deck getDeck() {
@@ -157,4 +541,4 @@ public class GameUno implements IGameUno, Serializable {
     public Table getTable() {
         return table;
     }
-}
\ No newline at end of file
+}
@@ -35,14 +35,6 @@ public interface IGameUno {
      */
     void haveSungOne(String playerWhoSang);
 
-    /**
-     * Retrieves the current visible cards of the human player starting from a specific position.
-     *
-     * @param posInitCardToShow the starting position of the cards to be shown
-     * @return an array of cards that are currently visible to the human player
-     */
-    Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow);
-
     /**
      * Checks if the game is over.
      *
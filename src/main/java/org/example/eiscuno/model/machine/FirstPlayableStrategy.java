@@ -0,0 +1,40 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+
+/**
+ * The easy machine: plays the first playable card of its hand and, after a WILD or +4,
+ * asks for the color it holds most.
+ */
+public class FirstPlayableStrategy implements MachineStrategy {
+
+    @Override
+    public MachineMove chooseMove(GameUno game, Player machine) {
+        Card card = UnoRulesEngine.findPlayableCard(machine, game.getTable());
+        if (card == null) {
+            return MachineMove.DRAW;
+        }
+        int color = CardCode.isWild(card.getCode()) ? dominantColor(machine) : CardCode.NO_COLOR;
+        return MachineMove.play(card, color);
+    }
+
+    /**
+     * Gets the color of which a player holds the most cards, RED if it holds no colored card.
+     *
+     * @param player the player
+     * @return the {@code CardCode} color
+     */
+    static int dominantColor(Player player) {
+        int best = CardCode.RED;
+        for (int color = CardCode.GREEN; color <= CardCode.YELLOW; color++) {
+            if (player.countOfColor(color) > player.countOfColor(best)) {
+                best = color;
+            }
+        }
+        return best;
+    }
+}
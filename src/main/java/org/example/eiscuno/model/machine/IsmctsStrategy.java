@@ -0,0 +1,339 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A machine that searches its move with information-set Monte Carlo tree search.
+ * <p>
+ * The machine does not know the opponent's hand nor the order of the deck. Every
+ * iteration deals the unseen cards at random (a determinization) and walks a tree of
+ * moves shared by all determinizations, choosing children by UCB weighted by how often
+ * they were available, then finishes the game with random moves. The search is root
+ * parallel: each worker of the {@link ForkJoinPool} grows its own tree until the move
+ * deadline, and the visit counts of the root moves are summed to pick the move. A bigger
+ * pool gets more iterations in the same budget, so the latency of a move only depends
+ * on the budget.
+ * </p>
+ * <p>
+ * The search models a two-player game; with more players the machine falls back to the
+ * {@link FirstPlayableStrategy}.
+ * </p>
+ */
+public class IsmctsStrategy implements MachineStrategy {
+
+    private static final double EXPLORATION = 0.7;
+    private static final int MACHINE = 0;
+    private static final int OPPONENT = 1;
+
+    private final long budgetNanos;
+    private final ForkJoinPool pool;
+    private final int workers;
+    private final MachineStrategy fallback = new FirstPlayableStrategy();
+    // Guarded by itself: split once per move, so the searches never share a stream.
+    private final SplittableRandom seeds;
+
+    /**
+     * Creates a strategy that searches on the common fork-join pool.
+     *
+     * @param budgetMillis the time allowed for each move, in milliseconds
+     */
+    public IsmctsStrategy(long budgetMillis) {
+        this(budgetMillis, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param budgetMillis the time allowed for each move, in milliseconds
+     * @param pool         the pool that runs one search tree per worker
+     */
+    public IsmctsStrategy(long budgetMillis, ForkJoinPool pool) {
+        this(budgetMillis, pool, new SplittableRandom());
+    }
+
+    /**
+     * @param budgetMillis the time allowed for each move, in milliseconds
+     * @param pool         the pool that runs one search tree per worker
+     * @param seeds        the stream that seeds the searches, owned by the strategy
+     */
+    public IsmctsStrategy(long budgetMillis, ForkJoinPool pool, SplittableRandom seeds) {
+        this(budgetMillis, pool, pool.getParallelism(), seeds);
+    }
+
+    /**
+     * Creates a strategy that grows fewer trees than the pool has workers, e.g. when the
+     * pool is shared by several strategies searching at the same time.
+     *
+     * @param budgetMillis the time allowed for each move, in milliseconds
+     * @param pool         the pool that runs the search trees
+     * @param trees        the number of trees grown in parallel for each move
+     * @param seeds        the stream that seeds the searches, owned by the strategy
+     */
+    public IsmctsStrategy(long budgetMillis, ForkJoinPool pool, int trees, SplittableRandom seeds) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("The budget must be positive: " + budgetMillis);
+        }
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.pool = pool;
+        this.workers = Math.max(1, trees);
+        this.seeds = seeds;
+    }
+
+    @Override
+    public MachineMove chooseMove(GameUno game, Player machine) {
+        if (game.getSeatCount() != 2) {
+            return fallback.chooseMove(game, machine);
+        }
+        long deadline = System.nanoTime() + budgetNanos;
+        Position position = new Position(game, machine);
+        int[] moves = new int[SimulatedGame.MAX_MOVES];
+        SplittableRandom moveSeeds;
+        synchronized (seeds) {
+            moveSeeds = seeds.split();
+        }
+        int count = position.deal(moveSeeds.split(), new SimulatedGame()).legalMoves(moves);
+        if (count == 1) {
+            return toMove(machine, moves[0]);
+        }
+
+        List<Callable<long[]>> searches = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            SplittableRandom random = moveSeeds.split();
+            searches.add(() -> search(position, random, deadline));
+        }
+        long[] visits = new long[SimulatedGame.MOVE_KEYS];
+        try {
+            for (Future<long[]> search : pool.invokeAll(searches)) {
+                long[] rootVisits = search.get();
+                for (int key = 0; key < visits.length; key++) {
+                    visits[key] += rootVisits[key];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The move search failed", e.getCause());
+        }
+
+        int best = moves[0];
+        for (int i = 1; i < count; i++) {
+            if (visits[moves[i]] > visits[best]) {
+                best = moves[i];
+            }
+        }
+        return toMove(machine, best);
+    }
+
+    private static MachineMove toMove(Player machine, int move) {
+        if (move == SimulatedGame.DRAW) {
+            return MachineMove.DRAW;
+        }
+        byte code = SimulatedGame.codeOf(move);
+        int handSize = machine.getCardsPlayer().size();
+        for (int i = 0; i < handSize; i++) {
+            Card card = machine.getCard(i);
+            if (card.getCode() == code) {
+                return MachineMove.play(card, SimulatedGame.colorOf(move));
+            }
+        }
+        throw new IllegalStateException("Card " + code + " is not in the machine's hand");
+    }
+
+    /**
+     * Grows one search tree until the deadline.
+     *
+     * @return the number of visits of each root move, indexed by move key
+     */
+    private static long[] search(Position position, SplittableRandom random, long deadline) {
+        Node root = new Node(null, SimulatedGame.DRAW, OPPONENT);
+        SimulatedGame game = new SimulatedGame();
+        int[] moves = new int[SimulatedGame.MAX_MOVES];
+        do {
+            position.deal(random, game);
+            Node node = root;
+            while (game.winner < 0) {
+                int count = game.legalMoves(moves);
+                Node next = node.expand(moves, count, game.turn, random);
+                if (next == null) {
+                    next = node.select(moves, count);
+                    game.apply(next.move);
+                    node = next;
+                } else {
+                    game.apply(next.move);
+                    node = next;
+                    break;
+                }
+            }
+            game.playOut(random, moves);
+            for (; node != null; node = node.parent) {
+                node.visits++;
+                node.reward += game.rewardFor(node.mover);
+            }
+        } while (System.nanoTime() < deadline);
+
+        long[] visits = new long[SimulatedGame.MOVE_KEYS];
+        for (Node child : root.children) {
+            visits[child.move] = child.visits;
+        }
+        return visits;
+    }
+
+    /**
+     * A node of the search tree: the move that leads to it and its statistics from the
+     * point of view of the player who made that move.
+     */
+    private static final class Node {
+        private final Node parent;
+        private final int move;
+        private final int mover;
+        private final List<Node> children = new ArrayList<>();
+        private int visits;
+        private int availability;
+        private double reward;
+
+        Node(Node parent, int move, int mover) {
+            this.parent = parent;
+            this.move = move;
+            this.mover = mover;
+        }
+
+        private Node child(int move) {
+            for (Node child : children) {
+                if (child.move == move) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Adds a child for a random legal move that has none yet, counting a visit of
+         * availability for the legal children that already exist.
+         *
+         * @param mover the player who makes the move
+         * @return the new child, or null if every legal move has a child
+         */
+        Node expand(int[] moves, int count, int mover, SplittableRandom random) {
+            int untried = 0;
+            int chosen = -1;
+            for (int i = 0; i < count; i++) {
+                if (child(moves[i]) == null && random.nextInt(++untried) == 0) {
+                    chosen = moves[i];
+                }
+            }
+            if (chosen < 0) {
+                return null;
+            }
+            for (int i = 0; i < count; i++) {
+                Node child = child(moves[i]);
+                if (child != null) {
+                    child.availability++;
+                }
+            }
+            Node node = new Node(this, chosen, mover);
+            node.availability = 1;
+            children.add(node);
+            return node;
+        }
+
+        /**
+         * Chooses the legal child with the best UCB score, counting a visit of availability
+         * for every legal child.
+         */
+        Node select(int[] moves, int count) {
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                Node child = child(moves[i]);
+                child.availability++;
+                double score = child.reward / child.visits
+                        + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * What the machine knows when it has to move: its hand, the discard pile, the active
+     * color, the sizes of the opponent's hand and of the deck, and the cards it has not seen.
+     */
+    private static final class Position {
+        private final byte[] machineHand;
+        private final byte[] unseen;
+        private final byte[] discards;
+        private final int opponentSize;
+        private final int deckSize;
+        private final byte top;
+        private final int activeColor;
+
+        Position(GameUno game, Player machine) {
+            Table table = game.getTable();
+            machineHand = machine.toCardCodes();
+            opponentSize = game.getNextPlayer(machine).getCardsPlayer().size();
+            deckSize = game.getDeck().size();
+            top = table.getCurrentCardOnTheTable().getCode();
+            activeColor = table.getActiveColorCode();
+
+            int[] counts = new int[CardCode.FACE_COUNT];
+            for (byte code = 0; code < CardCode.FACE_COUNT; code++) {
+                counts[code] = Card.copiesOf(CardCode.faceOf(code));
+            }
+            for (byte code : machineHand) {
+                counts[code]--;
+            }
+            byte[] pile = table.toCardCodes();
+            for (byte code : pile) {
+                counts[code]--;
+            }
+            discards = Arrays.copyOf(pile, pile.length - 1);
+            byte[] codes = new byte[opponentSize + deckSize];
+            int size = 0;
+            for (byte code = 0; code < CardCode.FACE_COUNT && size < codes.length; code++) {
+                for (int i = 0; i < counts[code] && size < codes.length; i++) {
+                    codes[size++] = code;
+                }
+            }
+            unseen = size == codes.length ? codes : Arrays.copyOf(codes, size);
+        }
+
+        /**
+         * Deals the unseen cards at random between the opponent's hand and the deck.
+         *
+         * @return the game, with the machine to move
+         */
+        SimulatedGame deal(SplittableRandom random, SimulatedGame game) {
+            System.arraycopy(machineHand, 0, game.hands[MACHINE], 0, machineHand.length);
+            game.sizes[MACHINE] = machineHand.length;
+            byte[] deck = game.deck;
+            System.arraycopy(unseen, 0, deck, 0, unseen.length);
+            SimulatedGame.shuffle(deck, unseen.length, random);
+            int dealt = Math.min(opponentSize, unseen.length);
+            System.arraycopy(deck, unseen.length - dealt, game.hands[OPPONENT], 0, dealt);
+            game.sizes[OPPONENT] = dealt;
+            game.deckSize = unseen.length - dealt;
+            System.arraycopy(discards, 0, game.discards, 0, discards.length);
+            game.discardSize = discards.length;
+            game.random = random;
+            game.top = top;
+            game.activeColor = activeColor;
+            game.turn = MACHINE;
+            game.winner = -1;
+            return game;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+
+/**
+ * A move chosen by a {@link MachineStrategy}: play a card of the hand, with the color
+ * chosen for a WILD or +4, or draw a card.
+ */
+public final class MachineMove {
+
+    /** Draw a card from the deck. */
+    public static final MachineMove DRAW = new MachineMove(null, CardCode.NO_COLOR);
+
+    private final Card card;
+    private final int color;
+
+    private MachineMove(Card card, int color) {
+        this.card = card;
+        this.color = color;
+    }
+
+    /**
+     * Creates a move that plays a card.
+     *
+     * @param card  the card of the hand to play
+     * @param color the {@code CardCode} color chosen for a WILD or +4, {@link CardCode#NO_COLOR} otherwise
+     * @return the move
+     */
+    public static MachineMove play(Card card, int color) {
+        return new MachineMove(card, color);
+    }
+
+    /**
+     * @return true if this move draws a card instead of playing one
+     */
+    public boolean isDraw() {
+        return card == null;
+    }
+
+    /**
+     * @return the card to play, or null for a draw
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * @return the chosen {@code CardCode} color, or {@link CardCode#NO_COLOR}
+     */
+    public int getColor() {
+        return color;
+    }
+}
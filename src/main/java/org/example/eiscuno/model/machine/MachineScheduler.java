@@ -0,0 +1,39 @@
+package org.example.eiscuno.model.machine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The worker pool shared by every {@link ThreadPlayMachine} of the JVM.
+ * <p>
+ * A machine turn is a short task handed to this pool once its think time has elapsed on
+ * the shared {@code TimerWheel}, so a small pool of daemon threads drives any number of
+ * machine players; a waiting machine holds no thread and no slot in a scheduler queue.
+ * </p>
+ */
+public final class MachineScheduler {
+
+    private MachineScheduler() {
+    }
+
+    private static final class Holder {
+        private static final ExecutorService INSTANCE = create();
+    }
+
+    private static ExecutorService create() {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "uno-machine-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the shared worker pool, created on the first call
+     */
+    public static ExecutorService shared() {
+        return Holder.INSTANCE;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Decides the moves of a machine player.
+ * <p>
+ * A strategy only sees what the machine could see at a real table: its own hand, the
+ * discard pile, the number of cards of the opponent and of the deck. It must not change
+ * the game.
+ * </p>
+ */
+public interface MachineStrategy {
+
+    /**
+     * Chooses the move of the machine on its turn.
+     *
+     * @param game    the game being played
+     * @param machine the machine player whose turn it is
+     * @return the chosen move, never null
+     */
+    MachineMove chooseMove(GameUno game, Player machine);
+}
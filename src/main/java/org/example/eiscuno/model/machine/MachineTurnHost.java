@@ -0,0 +1,31 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+
+/**
+ * The side of a game that receives the moves chosen by a {@link ThreadPlayMachine}.
+ * <p>
+ * The JavaFX controller implements it for the desktop game; simulations and tests can
+ * implement it directly on top of the model.
+ * </p>
+ */
+public interface MachineTurnHost {
+
+    /**
+     * @return true once the game has ended and the machine must not play anymore
+     */
+    boolean hasGameEnded();
+
+    /**
+     * Plays the card chosen by the machine.
+     *
+     * @param card  the card the machine wants to play
+     * @param color the {@code CardCode} color chosen for a WILD or +4, {@code CardCode.NO_COLOR} otherwise
+     */
+    void playMachineCard(Card card, int color);
+
+    /**
+     * Makes the machine draw a card because it has no playable card.
+     */
+    void drawMachineCard();
+}
@@ -0,0 +1,217 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.rules.CardEffect;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+
+import java.util.SplittableRandom;
+
+/**
+ * A two-player game reduced to card codes, used by {@link IsmctsStrategy} to play
+ * thousands of determinized games per move without touching the real model.
+ * <p>
+ * It follows the same rules as {@link UnoRulesEngine} for two players: SKIP and REVERSE
+ * give the player another turn, +2 and +4 make the opponent draw, a
+ * player only draws when no card of the hand can be played and the discard pile is
+ * shuffled back into the deck when it runs dry.
+ * </p>
+ */
+final class SimulatedGame {
+
+    /** The move that draws a card. Plays are encoded as {@code code << 3 | color}. */
+    static final int DRAW = CardCode.FACE_COUNT << 3;
+    /** The number of distinct move keys, see {@link #DRAW}. */
+    static final int MOVE_KEYS = DRAW + 1;
+    /** The maximum number of legal moves in a position: every colored face plus four colors per wild face. */
+    static final int MAX_MOVES = CardCode.FACE_COUNT - 2 + 2 * 4;
+
+    private static final int NO_COLOR_KEY = 4;
+    private static final int MAX_PLIES = 400;
+    private static final int MAX_CARDS = Card.COUNT;
+
+    final byte[][] hands = new byte[2][MAX_CARDS];
+    final int[] sizes = new int[2];
+    final byte[] deck = new byte[MAX_CARDS];
+    int deckSize;
+    final byte[] discards = new byte[MAX_CARDS];
+    int discardSize;
+    SplittableRandom random;
+    byte top;
+    int activeColor;
+    int turn;
+    int winner = -1;
+
+    static int playKey(byte code, int color) {
+        return code << 3 | (color == CardCode.NO_COLOR ? NO_COLOR_KEY : color);
+    }
+
+    static byte codeOf(int move) {
+        return (byte) (move >> 3);
+    }
+
+    static int colorOf(int move) {
+        int color = move & 7;
+        return color == NO_COLOR_KEY ? CardCode.NO_COLOR : color;
+    }
+
+    /**
+     * Lists the legal moves of the player to move: one per distinct playable face, four
+     * for a wild face (one per color), or only {@link #DRAW} when nothing can be played.
+     *
+     * @param moves the destination, at least {@link #MAX_MOVES} long
+     * @return the number of moves written
+     */
+    int legalMoves(int[] moves) {
+        byte[] hand = hands[turn];
+        long seen = 0L;
+        int count = 0;
+        for (int i = 0; i < sizes[turn]; i++) {
+            byte code = hand[i];
+            long bit = 1L << code;
+            if ((seen & bit) != 0 || !UnoRulesEngine.isValidPlay(code, top, activeColor)) {
+                continue;
+            }
+            seen |= bit;
+            if (CardCode.isWild(code)) {
+                for (int color = CardCode.RED; color <= CardCode.YELLOW; color++) {
+                    moves[count++] = playKey(code, color);
+                }
+            } else {
+                moves[count++] = playKey(code, CardCode.NO_COLOR);
+            }
+        }
+        if (count == 0) {
+            moves[count++] = DRAW;
+        }
+        return count;
+    }
+
+    /**
+     * Plays a move for the player to move.
+     *
+     * @param move a legal move
+     */
+    void apply(int move) {
+        int opponent = 1 - turn;
+        if (move == DRAW) {
+            draw(turn, 1);
+            turn = opponent;
+            return;
+        }
+        byte code = codeOf(move);
+        removeFromHand(turn, code);
+        discards[discardSize++] = top;
+        top = code;
+        activeColor = CardCode.isWild(code) ? colorOf(move) : CardCode.colorOf(code);
+        if (sizes[turn] == 0) {
+            winner = turn;
+            return;
+        }
+        CardEffect effect = UnoRulesEngine.effectOf(code);
+        if (effect.penaltyCards() > 0) {
+            draw(opponent, effect.penaltyCards());
+        }
+        if (effect != CardEffect.SKIP && effect != CardEffect.REVERSE) {
+            turn = opponent;
+        }
+    }
+
+    /**
+     * Plays random moves until the game ends or gets too long. Wild cards ask for the color
+     * the player holds most, which is what a reasonable player does.
+     *
+     * @param random the source of randomness
+     * @param moves  a scratch buffer, at least {@link #MAX_MOVES} long
+     */
+    void playOut(SplittableRandom random, int[] moves) {
+        for (int ply = 0; ply < MAX_PLIES && winner < 0; ply++) {
+            int count = legalMoves(moves);
+            int move = moves[random.nextInt(count)];
+            if (move != DRAW && CardCode.isWild(codeOf(move))) {
+                move = playKey(codeOf(move), dominantColor(turn));
+            }
+            apply(move);
+        }
+    }
+
+    /**
+     * Gets the outcome of the game for a player: 1 for a win, 0 for a loss. A game cut
+     * short is scored by the number of cards left.
+     *
+     * @param seat the player
+     * @return the reward of the player, between 0 and 1
+     */
+    double rewardFor(int seat) {
+        if (winner >= 0) {
+            return winner == seat ? 1.0 : 0.0;
+        }
+        int mine = sizes[seat];
+        int theirs = sizes[1 - seat];
+        return mine < theirs ? 1.0 : mine > theirs ? 0.0 : 0.5;
+    }
+
+    private int dominantColor(int seat) {
+        int[] counts = new int[CardCode.WILD];
+        for (int i = 0; i < sizes[seat]; i++) {
+            int color = CardCode.colorOf(hands[seat][i]);
+            if (color != CardCode.WILD) {
+                counts[color]++;
+            }
+        }
+        int best = CardCode.RED;
+        for (int color = 1; color < counts.length; color++) {
+            if (counts[color] > counts[best]) {
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    private void draw(int seat, int count) {
+        for (int i = 0; i < count; i++) {
+            if (deckSize == 0 && !recycleDiscards()) {
+                return;
+            }
+            hands[seat][sizes[seat]++] = deck[--deckSize];
+        }
+    }
+
+    private boolean recycleDiscards() {
+        if (discardSize == 0) {
+            return false;
+        }
+        System.arraycopy(discards, 0, deck, 0, discardSize);
+        deckSize = discardSize;
+        discardSize = 0;
+        shuffle(deck, deckSize, random);
+        return true;
+    }
+
+    /**
+     * Shuffles the first cards of an array in place (Fisher-Yates).
+     *
+     * @param cards  the cards
+     * @param count  the number of cards to shuffle
+     * @param random the source of randomness
+     */
+    static void shuffle(byte[] cards, int count, SplittableRandom random) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+    }
+
+    private void removeFromHand(int seat, byte code) {
+        byte[] hand = hands[seat];
+        for (int i = 0; i < sizes[seat]; i++) {
+            if (hand[i] == code) {
+                hand[i] = hand[--sizes[seat]];
+                return;
+            }
+        }
+        throw new IllegalStateException("Card " + code + " is not in the hand");
+    }
+}
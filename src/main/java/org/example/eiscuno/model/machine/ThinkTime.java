@@ -0,0 +1,56 @@
+package org.example.eiscuno.model.machine;
+
+import java.util.SplittableRandom;
+
+/**
+ * How long a machine player pretends to think before each move.
+ * <p>
+ * The desktop game uses {@link #DEFAULT} so the human can follow the machine's moves;
+ * simulations and tests use {@link #ZERO} so a turn costs no wall-clock time.
+ * </p>
+ */
+public final class ThinkTime {
+
+    /** Two seconds before every move and two to four more seconds before drawing. */
+    public static final ThinkTime DEFAULT = new ThinkTime(2000, 2000, 4000);
+
+    /** No delay at all. */
+    public static final ThinkTime ZERO = new ThinkTime(0, 0, 0);
+
+    private final long playMillis;
+    private final long minDrawMillis;
+    private final long maxDrawMillis;
+
+    /**
+     * @param playMillis    the delay before every move, in milliseconds
+     * @param minDrawMillis the minimum extra delay before drawing a card, in milliseconds
+     * @param maxDrawMillis the maximum extra delay before drawing a card, in milliseconds
+     */
+    public ThinkTime(long playMillis, long minDrawMillis, long maxDrawMillis) {
+        if (playMillis < 0 || minDrawMillis < 0 || maxDrawMillis < minDrawMillis) {
+            throw new IllegalArgumentException("Invalid think time " + playMillis + ", "
+                    + minDrawMillis + ".." + maxDrawMillis);
+        }
+        this.playMillis = playMillis;
+        this.minDrawMillis = minDrawMillis;
+        this.maxDrawMillis = maxDrawMillis;
+    }
+
+    /**
+     * @return the delay before every move, in milliseconds
+     */
+    public long playMillis() {
+        return playMillis;
+    }
+
+    /**
+     * @param random the random stream of the machine
+     * @return a random extra delay before drawing a card, in milliseconds
+     */
+    public long drawMillis(SplittableRandom random) {
+        if (maxDrawMillis == minDrawMillis) {
+            return minDrawMillis;
+        }
+        return random.nextLong(minDrawMillis, maxDrawMillis + 1);
+    }
+}
@@ -1,125 +1,141 @@
 package org.example.eiscuno.model.machine;
 
-import javafx.application.Platform;
-import javafx.scene.image.ImageView;
+import org.example.eiscuno.jfr.MachineDecisionEvent;
+import org.example.eiscuno.metrics.GameMetrics;
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.game.GameUno;
 import org.example.eiscuno.model.player.Player;
-import org.example.eiscuno.model.table.Table;
-import org.example.eiscuno.controller.GameUnoController;
+import org.example.eiscuno.timer.Timeout;
+import org.example.eiscuno.timer.TimerWheel;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
-public class ThreadPlayMachine extends Thread {
-    private Table table;
-    private Player machinePlayer;
-    private ImageView tableImageView;
-    private volatile boolean isMyTurn = false;
-    private GameUnoController controller;
+/**
+ * Plays the turns of the machine player.
+ * <p>
+ * A turn is a task timed by a {@link TimerWheel} for the {@link ThinkTime} of the session;
+ * no thread is held while the machine waits for its turn, and cancelling a pending turn
+ * is O(1). When the think time is over, the host's executor (the JavaFX application
+ * thread for the desktop game), which owns the game, takes a {@link GameUno#copy() copy}
+ * of it. The {@link MachineStrategy} then chooses the move from that copy on a worker
+ * executor, so the search never reads state the owner may be changing. The chosen move
+ * goes back to the {@link MachineTurnHost} through the host's executor, and the host
+ * decides whose turn is next.
+ * </p>
+ */
+public class ThreadPlayMachine {
+    private final GameUno game;
+    private final Player machinePlayer;
+    private final MachineStrategy strategy;
+    private final MachineTurnHost host;
+    private final Executor hostExecutor;
+    private final Executor workers;
+    private final TimerWheel timer;
+    private final ThinkTime thinkTime;
+    private final SplittableRandom random;
 
-    public ThreadPlayMachine(Table table, Player machinePlayer, ImageView tableImageView,
-            GameUnoController controller) {
-        this.table = table;
-        this.machinePlayer = machinePlayer;
-        this.tableImageView = tableImageView;
-        this.controller = controller;
-    }
-
-    public void run() {
-        while (true) {
-            try {
-                if (controller.hasGameEnded()) {
-                    break;
-                }
-                // Non-busy waiting
-                synchronized (this) {
-                    while (!isMyTurn) {
-                        wait();
-                    }
-                }
-
-                if (controller.isGameOver())
-                    break;
-
-                // "Thinking" time
-                Thread.sleep(2000);
+    private Timeout pendingTurn;
 
-                // Machine logic to play a card
-                playMachineTurn();
+    /**
+     * Creates a machine that waits the default think time on the shared timer and
+     * searches on the shared workers.
+     *
+     * @param game          the game being played
+     * @param machinePlayer the machine player
+     * @param strategy      how the machine chooses its moves
+     * @param host          the receiver of the machine's moves
+     * @param hostExecutor  the executor of the thread that owns the game, e.g. the JavaFX
+     *                      application thread for the desktop game
+     * @param random        the random stream of the machine, e.g. split from the session's
+     */
+    public ThreadPlayMachine(GameUno game, Player machinePlayer, MachineStrategy strategy, MachineTurnHost host,
+                             Executor hostExecutor, SplittableRandom random) {
+        this(game, machinePlayer, strategy, host, hostExecutor, MachineScheduler.shared(),
+                TimerWheel.shared(), ThinkTime.DEFAULT, random);
+    }
 
-                // End of turn
-                isMyTurn = false;
-                controller.setHumanTurn(true);
+    /**
+     * @param game          the game being played
+     * @param machinePlayer the machine player
+     * @param strategy      how the machine chooses its moves
+     * @param host          the receiver of the machine's moves
+     * @param hostExecutor  the executor that runs the calls to the host
+     * @param workers       the executor that runs the strategy on copies of the game
+     * @param timer         the timer that waits out the think time
+     * @param thinkTime     how long the machine waits before each move
+     * @param random        the random stream of the machine, only used by one turn at a time
+     */
+    public ThreadPlayMachine(GameUno game, Player machinePlayer, MachineStrategy strategy, MachineTurnHost host,
+                             Executor hostExecutor, Executor workers, TimerWheel timer, ThinkTime thinkTime,
+                             SplittableRandom random) {
+        this.game = game;
+        this.machinePlayer = machinePlayer;
+        this.strategy = strategy;
+        this.host = host;
+        this.hostExecutor = hostExecutor;
+        this.workers = workers;
+        this.timer = timer;
+        this.thinkTime = thinkTime;
+        this.random = random;
+    }
 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                e.printStackTrace();
-            }
+    /**
+     * Starts the machine's turn on the host's executor: copies the game for the strategy
+     * and hands the decision to a worker.
+     */
+    private void startMachineTurn() {
+        if (host.hasGameEnded()) {
+            return;
         }
+        GameUno position = game.copy();
+        Player machine = position.getPlayer(game.seatOf(machinePlayer));
+        workers.execute(() -> playMachineTurn(position, machine));
     }
 
     /**
-     * Contains the logic for the machine's turn.
+     * Contains the logic for the machine's turn, run on a worker.
+     *
+     * @param position a copy of the game owned by this turn
+     * @param machine  the machine player of the copy
      */
-    private void playMachineTurn() {
-        Card cardToPlay = findPlayableCard();
+    private void playMachineTurn(GameUno position, Player machine) {
+        MachineDecisionEvent trace = new MachineDecisionEvent();
+        trace.begin();
+        long start = System.nanoTime();
+        // Cards are canonical, so the chosen card is also the one in the real hand.
+        MachineMove move = strategy.chooseMove(position, machine);
+        GameMetrics.MACHINE_DECISION.recordSince(start);
+        trace.record(position, machine, strategy, move);
 
-        if (cardToPlay != null) {
-            // Play the card
-            Platform.runLater(() -> {
-                table.addCardOnTheTable(cardToPlay);
-                tableImageView.setImage(cardToPlay.getImage());
-                machinePlayer.removeCard(machinePlayer.getCardsPlayer().indexOf(cardToPlay));
-                System.out.println("Machine played: " + cardToPlay.getValue() + " " + cardToPlay.getColor());
-                controller.handleCardEffect(cardToPlay, machinePlayer);
-                controller.updateMachineCardCount();
-                if (machinePlayer.getCardsPlayer().size() == 1) {
-                    System.out.println("Machine says UNO!");
-                }
-            });
+        if (!move.isDraw()) {
+            Card cardToPlay = move.getCard();
+            hostExecutor.execute(() -> host.playMachineCard(cardToPlay, move.getColor()));
         } else {
-            // Draw a card because no card is playable
-            try {
-                // Wait between 2 to 4 seconds before drawing
-                long sleepTime = 2000 + new Random().nextInt(2001);
-                Thread.sleep(sleepTime);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-            Platform.runLater(() -> {
-                System.out.println("Machine has no playable cards. Drawing one.");
-                controller.getGameUno().eatCard(machinePlayer, 1);
-                controller.updateMachineCardCount();
-            });
+            schedule(host::drawMachineCard, thinkTime.drawMillis(random));
         }
     }
 
     /**
-     * Finds a valid card in the machine's hand to play.
-     * 
-     * @return a playable Card, or null if none is found.
+     * Runs a task on the host's executor after a delay.
      */
-    private Card findPlayableCard() {
-        Card currentCardOnTable = table.getCurrentCardOnTheTable();
-        for (Card card : machinePlayer.getCardsPlayer()) {
-            if (controller.validatePlay(card, currentCardOnTable)) {
-                return card;
-            }
-        }
-        return null;
+    private synchronized void schedule(Runnable task, long delayMillis) {
+        pendingTurn = timer.schedule(task, delayMillis, TimeUnit.MILLISECONDS, hostExecutor);
     }
 
     /**
      * Sets the turn for the machine. Called by the controller.
-     * 
-     * @param isMyTurn true to start the machine's turn, false otherwise.
+     *
+     * @param isMyTurn true to schedule the machine's turn, false to cancel a pending one.
      */
-    public void setMyTurn(boolean isMyTurn) {
-        this.isMyTurn = isMyTurn;
+    public synchronized void setMyTurn(boolean isMyTurn) {
+        if (pendingTurn != null) {
+            pendingTurn.cancel();
+            pendingTurn = null;
+        }
         if (isMyTurn) {
-            synchronized (this) {
-                notify();
-            }
+            schedule(this::startMachineTurn, thinkTime.playMillis());
         }
     }
-}
\ No newline at end of file
+}
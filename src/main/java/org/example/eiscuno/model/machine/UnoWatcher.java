@@ -0,0 +1,44 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.player.HandSizeListener;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.function.Consumer;
+
+/**
+ * Notices the moment a player is left with a single card, when "UNO" must be called.
+ * <p>
+ * The watcher listens to the hand size of the players instead of polling them, so the
+ * check runs exactly once per card played, on the thread that plays it, with no thread of
+ * its own and no delay. Dealing the first card of a hand does not count: only a hand that
+ * drops to one card does.
+ * </p>
+ */
+public class UnoWatcher implements HandSizeListener {
+    private final Consumer<Player> onLastCard;
+
+    /**
+     * @param onLastCard called with the player whose hand dropped to one card
+     */
+    public UnoWatcher(Consumer<Player> onLastCard) {
+        this.onLastCard = onLastCard;
+    }
+
+    /**
+     * Starts watching players, replacing their previous hand size listener.
+     *
+     * @param players the players to watch
+     */
+    public void watch(Player... players) {
+        for (Player player : players) {
+            player.setHandSizeListener(this);
+        }
+    }
+
+    @Override
+    public void onHandSizeChanged(Player player, int previousSize, int size) {
+        if (size == 1 && previousSize > 1) {
+            onLastCard.accept(player);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.eiscuno.model.player;
+
+/**
+ * Receives the changes of the size of a player's hand, see
+ * {@link Player#setHandSizeListener(HandSizeListener)}.
+ */
+@FunctionalInterface
+public interface HandSizeListener {
+
+    /**
+     * Called on the thread that changed the hand, right after the change.
+     *
+     * @param player       the player whose hand changed
+     * @param previousSize the number of cards before the change
+     * @param size         the number of cards now
+     */
+    void onHandSizeChanged(Player player, int previousSize, int size);
+}
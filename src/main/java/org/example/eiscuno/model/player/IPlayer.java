@@ -2,7 +2,7 @@ package org.example.eiscuno.model.player;
 
 import org.example.eiscuno.model.card.Card;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Interface representing a player in the Uno game.
@@ -28,12 +28,13 @@ public interface IPlayer {
     /**
      * Retrieves all cards currently held by the player.
      *
-     * @return An ArrayList containing all cards in the player's hand.
+     * @return a read-only view of the cards in the player's hand, in hand order.
      */
-    ArrayList<Card> getCardsPlayer();
+    List<Card> getCardsPlayer();
 
     /**
-     * Removes a card from the player's hand based on its index.
+     * Removes a card from the player's hand based on its index. The other cards keep
+     * their order.
      *
      * @param index The index of the card to remove.
      */
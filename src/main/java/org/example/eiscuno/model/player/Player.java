@@ -1,17 +1,40 @@
 package org.example.eiscuno.model.player;
 
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Represents a player in the Uno game.
+ * <p>
+ * Besides the cards in hand order, the hand is indexed by face: a count per
+ * {@link CardCode}, a count per color and a bitmask of the faces held. Whether the player
+ * can play, and which faces are playable, is then answered with a few mask operations
+ * whatever the size of the hand.
+ * </p>
+ * <p>
+ * The position of each card in the hand is also kept by card id, so finding a card with
+ * {@link #indexOf(Card)} is O(1). Removing a card keeps the order of the others, as the
+ * player sees it: the cards after it shift down by one and their positions are updated
+ * on the way, which costs no more than the shift of the list itself.
+ * </p>
  */
 public class Player implements IPlayer, Serializable {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 3L;
     private ArrayList<Card> cardsPlayer;
     private String typePlayer;
+    private final int[] faceCounts = new int[CardCode.FACE_COUNT];
+    private final int[] colorCounts = new int[CardCode.WILD + 1];
+    private long presentMask;
+    /** The position of each card in the hand, by card id; only valid for cards in the hand. */
+    private final int[] positions = new int[Card.COUNT];
+    private transient List<Card> readOnlyCards;
+    private transient HandSizeListener handSizeListener;
 
     /**
      * Constructs a new Player object with an empty hand of cards.
@@ -28,27 +51,177 @@ public class Player implements IPlayer, Serializable {
      */
     @Override
     public void addCard(Card card){
+        positions[card.getId()] = cardsPlayer.size();
         cardsPlayer.add(card);
+        count(card.getCode(), 1);
+        notifyHandSize(cardsPlayer.size() - 1);
+    }
+
+    /**
+     * Creates a player of the same type holding the same cards in the same order, with no
+     * hand size listener.
+     *
+     * @return the copy
+     */
+    public Player copy() {
+        Player copy = new Player(typePlayer);
+        for (Card card : cardsPlayer) {
+            copy.addCard(card);
+        }
+        return copy;
     }
 
     /**
      * Retrieves all cards currently held by the player.
      *
-     * @return An ArrayList containing all cards in the player's hand.
+     * @return a read-only view of the cards in the player's hand, in hand order.
      */
     @Override
-    public ArrayList<Card> getCardsPlayer() {
-        return cardsPlayer;
+    public List<Card> getCardsPlayer() {
+        if (readOnlyCards == null) {
+            readOnlyCards = Collections.unmodifiableList(cardsPlayer);
+        }
+        return readOnlyCards;
     }
 
     /**
-     * Removes a card from the player's hand based on its index.
+     * Removes a card from the player's hand based on its index. The cards after it keep
+     * their order and move down by one.
      *
      * @param index The index of the card to remove.
      */
     @Override
     public void removeCard(int index) {
-        cardsPlayer.remove(index);
+        Card removed = cardsPlayer.remove(index);
+        for (int i = index; i < cardsPlayer.size(); i++) {
+            positions[cardsPlayer.get(i).getId()] = i;
+        }
+        count(removed.getCode(), -1);
+        notifyHandSize(cardsPlayer.size() + 1);
+    }
+
+    /**
+     * Finds the position of a card in the hand, in O(1).
+     *
+     * @param card the card
+     * @return the index of the card, or -1 if the player does not hold it
+     */
+    public int indexOf(Card card) {
+        int index = positions[card.getId()];
+        return index < cardsPlayer.size() && cardsPlayer.get(index) == card ? index : -1;
+    }
+
+    /**
+     * Removes every card from the player's hand.
+     */
+    public void removeAllCards() {
+        int previousSize = cardsPlayer.size();
+        cardsPlayer.clear();
+        Arrays.fill(faceCounts, 0);
+        Arrays.fill(colorCounts, 0);
+        presentMask = 0L;
+        if (previousSize > 0) {
+            notifyHandSize(previousSize);
+        }
+    }
+
+    /**
+     * Sets the listener told about every following change of the size of the hand, or
+     * null to stop notifying.
+     *
+     * @param listener the listener
+     */
+    public void setHandSizeListener(HandSizeListener listener) {
+        this.handSizeListener = listener;
+    }
+
+    private void notifyHandSize(int previousSize) {
+        if (handSizeListener != null) {
+            handSizeListener.onHandSizeChanged(this, previousSize, cardsPlayer.size());
+        }
+    }
+
+    private void count(byte code, int delta) {
+        int count = faceCounts[code] += delta;
+        colorCounts[CardCode.colorOf(code)] += delta;
+        if (count == 0) {
+            presentMask &= ~(1L << code);
+        } else {
+            presentMask |= 1L << code;
+        }
+    }
+
+    /**
+     * Gets how many cards of a face the player holds.
+     *
+     * @param code the {@link CardCode} of the face
+     * @return the number of cards of that face
+     */
+    public int countOf(byte code) {
+        return faceCounts[code];
+    }
+
+    /**
+     * Gets how many cards of a color the player holds.
+     *
+     * @param color a {@link CardCode} color, {@link CardCode#WILD} included
+     * @return the number of cards of that color
+     */
+    public int countOfColor(int color) {
+        return colorCounts[color];
+    }
+
+    /**
+     * Gets the faces held by the player, one bit per {@link CardCode}.
+     *
+     * @return the bitmask of the faces in the hand
+     */
+    public long getPresentMask() {
+        return presentMask;
+    }
+
+    /**
+     * Gets the faces of the hand that can be played: wild cards, cards of the active color
+     * and cards of the same rank as the card on the table.
+     *
+     * @param cardOnTable the {@link CardCode} of the card on the table
+     * @param activeColor the {@link CardCode} color enforced by the table
+     * @return the bitmask of the playable faces, 0 if the player cannot play
+     */
+    public long playableMask(byte cardOnTable, int activeColor) {
+        return presentMask & (CardCode.colorMask(CardCode.WILD) | CardCode.colorMask(activeColor)
+                | CardCode.rankMask(CardCode.rankOf(cardOnTable)));
+    }
+
+    /**
+     * Checks whether the player holds a card that can be played.
+     *
+     * @param cardOnTable the {@link CardCode} of the card on the table
+     * @param activeColor the {@link CardCode} color enforced by the table
+     * @return true if at least one card of the hand is playable
+     */
+    public boolean hasPlayableCard(byte cardOnTable, int activeColor) {
+        return playableMask(cardOnTable, activeColor) != 0L;
+    }
+
+    /**
+     * Finds the first card of the hand, in hand order, that can be played.
+     *
+     * @param cardOnTable the {@link CardCode} of the card on the table
+     * @param activeColor the {@link CardCode} color enforced by the table
+     * @return the playable card, or null without scanning the hand if there is none
+     */
+    public Card findPlayableCard(byte cardOnTable, int activeColor) {
+        long playable = playableMask(cardOnTable, activeColor);
+        if (playable == 0L) {
+            return null;
+        }
+        for (Card card : cardsPlayer) {
+            if ((playable & 1L << card.getCode()) != 0L) {
+                return card;
+            }
+        }
+        return null;
     }
 
     /**
@@ -62,6 +235,19 @@ public class Player implements IPlayer, Serializable {
         return cardsPlayer.get(index);
     }
 
+    /**
+     * Gets the cards in the player's hand as compact card codes, in hand order.
+     *
+     * @return a new array with one {@link CardCode} per card in the hand
+     */
+    public byte[] toCardCodes() {
+        byte[] codes = new byte[cardsPlayer.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = cardsPlayer.get(i).getCode();
+        }
+        return codes;
+    }
+
     public String getTypePlayer() {
         return typePlayer;
     }
@@ -0,0 +1,40 @@
+package org.example.eiscuno.model.rules;
+
+/**
+ * Enum CardEffect
+ *
+ * This enum represents the effect a played card has on the rest of the game.
+ */
+public enum CardEffect {
+    NONE,
+    DRAW_TWO,
+    DRAW_FOUR,
+    SKIP,
+    REVERSE,
+    WILD;
+
+    /**
+     * Checks whether the player who played the card must choose the next color.
+     *
+     * @return true for WILD and +4 cards, false otherwise
+     */
+    public boolean requiresColor() {
+        return this == WILD || this == DRAW_FOUR;
+    }
+
+    /**
+     * Gets the number of cards the next player must draw because of this effect.
+     *
+     * @return 2 for +2, 4 for +4 and 0 for any other effect
+     */
+    public int penaltyCards() {
+        switch (this) {
+            case DRAW_TWO:
+                return 2;
+            case DRAW_FOUR:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.eiscuno.model.rules;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.player.Player;
+
+/**
+ * Holds the outcome of a move evaluated by the {@link UnoRulesEngine}.
+ * <p>
+ * Instances are mutable and meant to be reused: callers keep one {@code MoveResult}
+ * per game loop and pass it to every call, so evaluating a move does not allocate.
+ * </p>
+ */
+public class MoveResult {
+    private boolean legal;
+    private Card card;
+    private CardEffect effect = CardEffect.NONE;
+    private Player penalizedPlayer;
+    private int cardsDrawn;
+    private Player nextPlayer;
+    private int chosenColor = CardCode.NO_COLOR;
+    private boolean gameOver;
+
+    /**
+     * Clears every field so the instance can describe a new move.
+     *
+     * @return this result, for chaining
+     */
+    public MoveResult reset() {
+        this.legal = false;
+        this.card = null;
+        this.effect = CardEffect.NONE;
+        this.penalizedPlayer = null;
+        this.cardsDrawn = 0;
+        this.nextPlayer = null;
+        this.chosenColor = CardCode.NO_COLOR;
+        this.gameOver = false;
+        return this;
+    }
+
+    void setLegal(boolean legal) { this.legal = legal; }
+    void setCard(Card card) { this.card = card; }
+    void setEffect(CardEffect effect) { this.effect = effect; }
+    void setPenalizedPlayer(Player penalizedPlayer) { this.penalizedPlayer = penalizedPlayer; }
+    void setCardsDrawn(int cardsDrawn) { this.cardsDrawn = cardsDrawn; }
+    void setNextPlayer(Player nextPlayer) { this.nextPlayer = nextPlayer; }
+    void setChosenColor(int chosenColor) { this.chosenColor = chosenColor; }
+    void setGameOver(boolean gameOver) { this.gameOver = gameOver; }
+
+    /**
+     * @return true if the move was accepted and applied to the game
+     */
+    public boolean isLegal() { return legal; }
+
+    /**
+     * @return the card that was played, or null if the move was a draw
+     */
+    public Card getCard() { return card; }
+
+    /**
+     * @return the effect of the played card
+     */
+    public CardEffect getEffect() { return effect; }
+
+    /**
+     * @return the player who had to draw cards because of the move, or null
+     */
+    public Player getPenalizedPlayer() { return penalizedPlayer; }
+
+    /**
+     * @return the number of cards actually drawn by the penalized or drawing player
+     */
+    public int getCardsDrawn() { return cardsDrawn; }
+
+    /**
+     * @return the player whose turn comes next
+     */
+    public Player getNextPlayer() { return nextPlayer; }
+
+    /**
+     * @return the color chosen for a WILD or +4 card, or {@link CardCode#NO_COLOR} if none was given
+     */
+    public int getChosenColor() { return chosenColor; }
+
+    /**
+     * Checks whether a WILD or +4 card was played without choosing the next color.
+     *
+     * @return true if the caller still has to set the active color
+     */
+    public boolean isColorPending() {
+        return legal && effect.requiresColor() && chosenColor == CardCode.NO_COLOR;
+    }
+
+    /**
+     * @return true if the player who moved has emptied their hand
+     */
+    public boolean isGameOver() { return gameOver; }
+}
@@ -0,0 +1,195 @@
+package org.example.eiscuno.model.rules;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.Arrays;
+
+/**
+ * The {@code UnoRulesEngine} class holds the rules of EISC Uno, independent of any view.
+ * <p>
+ * It validates plays, applies the effect of a played card (+2, +4, SKIP, REVERSE and
+ * WILD color) to a {@link GameUno} and decides whose turn comes next. It has no JavaFX
+ * dependencies and does not allocate: every outcome is written into a caller-owned
+ * {@link MoveResult}, so it can be used by the controller, the machine player and
+ * headless simulations alike.
+ * </p>
+ *
+ * @see MoveResult
+ * @see CardEffect
+ */
+public final class UnoRulesEngine {
+
+    private static final CardEffect[] EFFECT_BY_RANK = new CardEffect[CardCode.WILD_DRAW_FOUR + 1];
+
+    static {
+        Arrays.fill(EFFECT_BY_RANK, CardEffect.NONE);
+        EFFECT_BY_RANK[CardCode.SKIP] = CardEffect.SKIP;
+        EFFECT_BY_RANK[CardCode.REVERSE] = CardEffect.REVERSE;
+        EFFECT_BY_RANK[CardCode.DRAW_TWO] = CardEffect.DRAW_TWO;
+        EFFECT_BY_RANK[CardCode.WILD_RANK] = CardEffect.WILD;
+        EFFECT_BY_RANK[CardCode.WILD_DRAW_FOUR] = CardEffect.DRAW_FOUR;
+    }
+
+    private UnoRulesEngine() {
+    }
+
+    /**
+     * Checks if a card can be played on top of the current card on the table.
+     *
+     * @param cardToPlay  the code of the card the player wants to play
+     * @param cardOnTable the code of the current card on the table
+     * @param activeColor the color currently enforced by the table
+     * @return true if the card is a wild card, matches the active color or matches the value
+     * @see CardCode
+     */
+    public static boolean isValidPlay(byte cardToPlay, byte cardOnTable, int activeColor) {
+        int color = CardCode.colorOf(cardToPlay);
+        return color == CardCode.WILD ||
+                color == activeColor ||
+                CardCode.rankOf(cardToPlay) == CardCode.rankOf(cardOnTable);
+    }
+
+    /**
+     * Checks if a card can be played on top of the current card on the table.
+     *
+     * @param cardToPlay  the card the player wants to play
+     * @param cardOnTable the current card on the table
+     * @param activeColor the color currently enforced by the table
+     * @return true if the card is a wild card, matches the active color or matches the value
+     */
+    public static boolean isValidPlay(Card cardToPlay, Card cardOnTable, int activeColor) {
+        return isValidPlay(cardToPlay.getCode(), cardOnTable.getCode(), activeColor);
+    }
+
+    /**
+     * Checks if a card can be played on top of the current card on the table.
+     *
+     * @param cardToPlay  the card the player wants to play
+     * @param cardOnTable the current card on the table
+     * @param activeColor the name of the color currently enforced by the table
+     * @return true if the card is a wild card, matches the active color or matches the value
+     */
+    public static boolean isValidPlay(Card cardToPlay, Card cardOnTable, String activeColor) {
+        return isValidPlay(cardToPlay.getCode(), cardOnTable.getCode(), CardCode.parseColor(activeColor));
+    }
+
+    /**
+     * Gets the effect a card has when it is played.
+     *
+     * @param code the code of the played card
+     * @return the effect of the card
+     */
+    public static CardEffect effectOf(byte code) {
+        return EFFECT_BY_RANK[CardCode.rankOf(code)];
+    }
+
+    /**
+     * Gets the effect a card has when it is played.
+     *
+     * @param card the played card
+     * @return the effect of the card
+     */
+    public static CardEffect effectOf(Card card) {
+        return effectOf(card.getCode());
+    }
+
+    /**
+     * Finds the first card in the player's hand that can be played on the table.
+     *
+     * @param player the player whose hand is searched
+     * @param table  the table holding the current card and active color
+     * @return a playable card, or null if none is found
+     */
+    public static Card findPlayableCard(Player player, Table table) {
+        return player.findPlayableCard(table.getCurrentCardOnTheTable().getCode(), table.getActiveColorCode());
+    }
+
+    /**
+     * Plays a card from the player's hand and applies its effect to the game.
+     * <p>
+     * The card is removed from the hand, put on the table, the next player draws the
+     * penalty cards of +2 and +4 (and still plays next), SKIP jumps over the next player,
+     * REVERSE flips the direction of play (with two players it works like SKIP), the chosen
+     * color is enforced for WILD and +4, and the current turn of the game is moved to the
+     * next player. If the play is not valid, the game is left untouched and
+     * {@link MoveResult#isLegal()} returns false.
+     * </p>
+     *
+     * @param game        the game the move is played in
+     * @param player      the player who plays the card
+     * @param card        the card to play, which must be in the player's hand
+     * @param chosenColor the next color for WILD and +4 cards, or {@link CardCode#NO_COLOR} to choose it later
+     * @param result      the result to fill in, reset before use
+     * @return the given result
+     */
+    public static MoveResult applyPlay(GameUno game, Player player, Card card, int chosenColor, MoveResult result) {
+        result.reset();
+        Table table = game.getTable();
+        int index = player.indexOf(card);
+        if (index < 0 || !isValidPlay(card, table.getCurrentCardOnTheTable(), table.getActiveColorCode())) {
+            return result;
+        }
+
+        int seat = game.seatOf(player);
+        game.playCardFromHand(player, index);
+
+        CardEffect effect = effectOf(card);
+        result.setLegal(true);
+        result.setCard(card);
+        result.setEffect(effect);
+
+        int nextSeat;
+        if (effect == CardEffect.REVERSE && game.getSeatCount() == 2) {
+            nextSeat = seat;
+        } else if (effect == CardEffect.REVERSE) {
+            game.reverseDirection();
+            nextSeat = game.nextSeat(seat);
+        } else if (effect == CardEffect.SKIP) {
+            nextSeat = game.seatAfter(seat, 2);
+        } else {
+            nextSeat = game.nextSeat(seat);
+        }
+
+        int penalty = effect.penaltyCards();
+        if (penalty > 0) {
+            Player victim = game.getPlayer(nextSeat);
+            int before = victim.getCardsPlayer().size();
+            game.eatCard(victim, penalty);
+            result.setPenalizedPlayer(victim);
+            result.setCardsDrawn(victim.getCardsPlayer().size() - before);
+        }
+        if (effect.requiresColor() && chosenColor != CardCode.NO_COLOR) {
+            game.setActiveColor(chosenColor);
+            result.setChosenColor(chosenColor);
+        }
+
+        result.setGameOver(player.getCardsPlayer().isEmpty());
+        result.setNextPlayer(game.getPlayer(nextSeat));
+        game.setCurrentSeat(nextSeat);
+        return result;
+    }
+
+    /**
+     * Makes the player draw one card from the deck, which ends their turn.
+     *
+     * @param game   the game the move is played in
+     * @param player the player who draws
+     * @param result the result to fill in, reset before use
+     * @return the given result
+     */
+    public static MoveResult applyDraw(GameUno game, Player player, MoveResult result) {
+        result.reset();
+        int before = player.getCardsPlayer().size();
+        game.eatCard(player, 1);
+        int nextSeat = game.nextSeat(game.seatOf(player));
+        result.setLegal(true);
+        result.setCardsDrawn(player.getCardsPlayer().size() - before);
+        result.setNextPlayer(game.getPlayer(nextSeat));
+        game.setCurrentSeat(nextSeat);
+        return result;
+    }
+}
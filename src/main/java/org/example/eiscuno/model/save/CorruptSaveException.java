@@ -0,0 +1,18 @@
+package org.example.eiscuno.model.save;
+
+import java.io.IOException;
+
+/**
+ * Signals that a saved game could not be read because the file is not a snapshot, was
+ * written by an unsupported version, or is damaged.
+ */
+public class CorruptSaveException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message the reason why the save was rejected
+     */
+    public CorruptSaveException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,301 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.jfr.GameLoadedEvent;
+import org.example.eiscuno.jfr.GameSavedEvent;
+import org.example.eiscuno.metrics.GameMetrics;
+import org.example.eiscuno.model.game.GameJournal;
+import org.example.eiscuno.model.game.GameUno;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a game persisted while it is played, using a snapshot file and a {@link MoveJournal}.
+ * <p>
+ * Every change of the attached game is encoded as a 4-byte journal record into an in-memory
+ * buffer. A shared background thread writes the buffered records and syncs them to disk
+ * every {@value #FLUSH_INTERVAL_MILLIS} ms, so a turn never waits for the disk and many
+ * records share one fsync. After {@value #DEFAULT_COMPACT_EVERY} records the game is
+ * compacted: a new snapshot is written atomically next to the journal, which starts a new
+ * generation. On startup {@link #load()} reads the snapshot and replays the journal on top
+ * of it, so a crash or an exit without closing the window loses at most the last flush
+ * interval.
+ * </p>
+ */
+public class GamePersistence implements GameJournal, Closeable {
+
+    private static final int DEFAULT_COMPACT_EVERY = 256;
+    private static final long FLUSH_INTERVAL_MILLIS = 20;
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "uno-journal-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final int compactEvery;
+    private final Object ioLock = new Object();
+
+    private GameUno game;
+    private volatile long sessionId;
+    private MoveJournal journal;
+    private ScheduledFuture<?> flushTask;
+    private int recordsSinceSnapshot;
+
+    // Guarded by this: records waiting for the flusher, a snapshot waiting to replace the
+    // journal, and the last generation handed out, so every snapshot gets its own.
+    private byte[] buffer = new byte[256];
+    private int size;
+    private byte[] pendingSnapshot;
+    private int pendingGeneration;
+    private int lastGeneration;
+
+    /** Run by {@link #flush()} right after it took the pending snapshot; set by tests only. */
+    Runnable afterSnapshotTaken;
+
+    /**
+     * @param snapshotPath the snapshot file; the journal is kept next to it with the extension ".journal"
+     */
+    public GamePersistence(Path snapshotPath) {
+        this(snapshotPath, DEFAULT_COMPACT_EVERY);
+    }
+
+    /**
+     * @param snapshotPath the snapshot file; the journal is kept next to it with the extension ".journal"
+     * @param compactEvery the number of journal records after which a new snapshot is written
+     */
+    public GamePersistence(Path snapshotPath, int compactEvery) {
+        this.snapshotPath = snapshotPath;
+        this.journalPath = journalPathFor(snapshotPath);
+        this.compactEvery = compactEvery;
+    }
+
+    /**
+     * Gets the journal file kept next to a snapshot file, e.g. {@code uno_save.journal}
+     * for {@code uno_save.dat}.
+     *
+     * @param snapshotPath the snapshot file
+     * @return the journal file
+     */
+    public static Path journalPathFor(Path snapshotPath) {
+        String name = snapshotPath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return snapshotPath.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + ".journal");
+    }
+
+    /**
+     * Restores the saved game: reads the snapshot and replays the journal written after it.
+     *
+     * @return the restored game, or null if there is no saved game
+     * @throws CorruptSaveException if the snapshot or the journal is damaged
+     * @throws IOException          if the files cannot be read
+     */
+    public GameUno load() throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return null;
+        }
+        GameLoadedEvent trace = new GameLoadedEvent();
+        trace.begin();
+        long start = System.nanoTime();
+        GameSnapshotReader reader;
+        GameUno loaded;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+            reader = new GameSnapshotReader(in);
+            loaded = reader.read();
+        }
+        int generation = reader.getGeneration();
+        synchronized (this) {
+            lastGeneration = generation;
+        }
+        int moves = MoveJournal.replay(journalPath, generation, loaded);
+        long bytes = Files.size(snapshotPath) + (Files.exists(journalPath) ? Files.size(journalPath) : 0);
+        GameMetrics.LOAD_DURATION.recordSince(start);
+        GameMetrics.LOAD_BYTES.record(bytes);
+        trace.record(loaded.getSessionId(), moves, bytes);
+        return loaded;
+    }
+
+    /**
+     * Starts persisting a game: writes its current state as a new snapshot and journals
+     * every following change.
+     *
+     * @param game the game to persist
+     * @throws IOException if the files cannot be written
+     */
+    public void attach(GameUno game) throws IOException {
+        this.game = game;
+        this.sessionId = game.getSessionId();
+        this.journal = new MoveJournal(journalPath);
+        synchronized (this) {
+            lastGeneration = Math.max(lastGeneration, journal.getGeneration());
+        }
+        requestCompaction();
+        flush();
+        game.setJournal(this);
+        flushTask = FLUSHER.scheduleWithFixedDelay(this::flushQuietly,
+                FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onCardsDrawn(int seat, int count) {
+        record(MoveJournal.DRAW, seat, count);
+    }
+
+    @Override
+    public void onCardPlayed(int seat, int handIndex) {
+        record(MoveJournal.PLAY, seat, handIndex);
+    }
+
+    @Override
+    public void onColorChosen(int color) {
+        record(MoveJournal.COLOR, color, 0);
+    }
+
+    @Override
+    public void onTurnChanged(int seat) {
+        record(MoveJournal.TURN, seat, 0);
+    }
+
+    @Override
+    public void onDirectionReversed() {
+        record(MoveJournal.REVERSE, 0, 0);
+    }
+
+    /**
+     * The shuffled deck cannot be replayed, so a recycle is folded into a new snapshot.
+     */
+    @Override
+    public void onDeckRecycled() {
+        requestCompaction();
+    }
+
+    private void record(byte op, int a, int b) {
+        synchronized (this) {
+            if (size + MoveJournal.RECORD_SIZE > buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            MoveJournal.encode(buffer, size, op, a, b);
+            size += MoveJournal.RECORD_SIZE;
+        }
+        if (++recordsSinceSnapshot >= compactEvery) {
+            requestCompaction();
+        }
+    }
+
+    /**
+     * Captures the current state of the game as the next snapshot. The records buffered so
+     * far are covered by it and dropped; the snapshot is written by the next flush.
+     */
+    private void requestCompaction() {
+        int nextGeneration;
+        synchronized (this) {
+            nextGeneration = ++lastGeneration;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try {
+            new GameSnapshotWriter(bytes).write(game, nextGeneration);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode the game snapshot", e);
+        }
+        synchronized (this) {
+            pendingSnapshot = bytes.toByteArray();
+            pendingGeneration = nextGeneration;
+            size = 0;
+        }
+        recordsSinceSnapshot = 0;
+    }
+
+    /**
+     * Writes the pending snapshot and records to disk and syncs them.
+     *
+     * @throws IOException if the files cannot be written
+     */
+    public void flush() throws IOException {
+        synchronized (ioLock) {
+            byte[] snapshot;
+            int snapshotGeneration;
+            byte[] records;
+            int length;
+            synchronized (this) {
+                snapshot = pendingSnapshot;
+                snapshotGeneration = pendingGeneration;
+                pendingSnapshot = null;
+                records = buffer;
+                length = size;
+                if (length > 0) {
+                    buffer = new byte[buffer.length];
+                    size = 0;
+                }
+            }
+            if (afterSnapshotTaken != null) {
+                afterSnapshotTaken.run();
+            }
+            if (snapshot == null && length == 0) {
+                return;
+            }
+            GameSavedEvent trace = new GameSavedEvent();
+            trace.begin();
+            long start = System.nanoTime();
+            if (snapshot != null) {
+                writeSnapshot(snapshot);
+                journal.reset(snapshotGeneration);
+            }
+            if (length > 0) {
+                journal.append(records, length);
+                journal.force();
+            }
+            long bytes = (snapshot != null ? snapshot.length : 0) + length;
+            GameMetrics.SAVE_DURATION.recordSince(start);
+            GameMetrics.SAVE_BYTES.record(bytes);
+            trace.record(sessionId, snapshot != null, bytes);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("Could not write the game journal.");
+            e.printStackTrace();
+        }
+    }
+
+    private void writeSnapshot(byte[] snapshot) throws IOException {
+        Path temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        Files.write(temporary, snapshot, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Stops journaling and leaves the game compacted into a single snapshot.
+     *
+     * @throws IOException if the files cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (game == null) {
+            return;
+        }
+        flushTask.cancel(false);
+        game.setJournal(null);
+        requestCompaction();
+        flush();
+        journal.close();
+        game = null;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.card.Card;
+
+/**
+ * Constants of the binary snapshot format of a {@code GameUno}.
+ * <p>
+ * Layout, all numbers big-endian:
+ * <pre>
+ *   int    magic        'U' 'N' 'O' 'S'
+ *   short  version
+ *   int    journal generation
+ *   byte   seat count    2 to 10
+ *   byte   current seat
+ *   byte   direction     1 or -1
+ *   byte   active color  a {@code CardCode} color, -1 if none
+ *   short  n, n bytes    deck, card codes from bottom to top
+ *   for every seat:
+ *     byte   player type  0 = human player, 1 = machine player
+ *     short  n, n bytes   hand, in hand order
+ *   short  n, n bytes    table, from the first card to the top card
+ *   int    CRC32 of every previous byte
+ * </pre>
+ * Version 1 and 2 snapshots hold two-player games: no seat count, direction nor player
+ * types, the current turn as 0 (human) or 1 (machine), and the human then the machine
+ * hand. Version 1 also has no journal generation.
+ * </p>
+ */
+final class GameSnapshotFormat {
+
+    static final int MAGIC = 0x554E4F53;
+    static final short VERSION = 3;
+    /** Version 1 snapshots have no journal generation and are read as generation 0. */
+    static final short FIRST_VERSION = 1;
+    /** The first version with a variable number of seats. */
+    static final short SEATS_VERSION = 3;
+
+    static final byte HUMAN = 0;
+    static final byte MACHINE = 1;
+    static final String[] PLAYER_TYPES = {"HUMAN_PLAYER", "MACHINE_PLAYER"};
+
+    /** No section can hold more cards than a whole deck. */
+    static final int MAX_CARDS = Card.COUNT;
+
+    private GameSnapshotFormat() {
+    }
+}
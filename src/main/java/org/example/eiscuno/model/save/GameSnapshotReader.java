@@ -0,0 +1,169 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Reads a {@link GameUno} written by the {@link GameSnapshotWriter}.
+ * <p>
+ * The header, every card code and the trailing checksum are validated, and any problem
+ * is reported as a {@link CorruptSaveException}, so callers can tell a damaged save from
+ * an I/O failure and start a new game cleanly.
+ * </p>
+ */
+public class GameSnapshotReader {
+    private final InputStream in;
+    private int generation;
+    private int currentSeat;
+    private int direction;
+    /** How many copies of each face were read so far, by card code. */
+    private final int[] copiesRead = new int[CardCode.FACE_COUNT];
+
+    /**
+     * @param in the stream to read from; it is not closed by {@link #read()}
+     */
+    public GameSnapshotReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the snapshot of a game.
+     *
+     * @return the restored game, with the same cards, turn and active color as when it was saved
+     * @throws CorruptSaveException if the data is not a valid snapshot
+     * @throws IOException          if the stream cannot be read
+     */
+    public GameUno read() throws IOException {
+        CRC32 crc = new CRC32();
+        DataInputStream data = new DataInputStream(new CheckedInputStream(in, crc));
+        Arrays.fill(copiesRead, 0);
+        try {
+            if (data.readInt() != GameSnapshotFormat.MAGIC) {
+                throw new CorruptSaveException("Not an EISC Uno save file");
+            }
+            short version = data.readShort();
+            if (version < GameSnapshotFormat.FIRST_VERSION || version > GameSnapshotFormat.VERSION) {
+                throw new CorruptSaveException("Unsupported save version " + version);
+            }
+            generation = version >= 2 ? data.readInt() : 0;
+            GameUno game = version >= GameSnapshotFormat.SEATS_VERSION ? readSeats(data) : readTwoPlayers(data);
+
+            int expected = (int) crc.getValue();
+            if (data.readInt() != expected) {
+                throw new CorruptSaveException("Checksum mismatch");
+            }
+            game.setCurrentSeat(currentSeat);
+            if (direction < 0) {
+                game.reverseDirection();
+            }
+            return game;
+        } catch (EOFException e) {
+            throw new CorruptSaveException("Save file is truncated");
+        }
+    }
+
+    /**
+     * Gets the journal generation of the last snapshot read.
+     *
+     * @return the generation of the {@link MoveJournal} that continues the snapshot
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    private GameUno readSeats(DataInputStream data) throws IOException {
+        int seatCount = data.readUnsignedByte();
+        if (seatCount < GameUno.MIN_SEATS || seatCount > GameUno.MAX_SEATS) {
+            throw new CorruptSaveException("Invalid seat count " + seatCount);
+        }
+        currentSeat = data.readUnsignedByte();
+        if (currentSeat >= seatCount) {
+            throw new CorruptSaveException("Invalid current seat " + currentSeat);
+        }
+        direction = data.readByte();
+        if (direction != 1 && direction != -1) {
+            throw new CorruptSaveException("Invalid direction " + direction);
+        }
+        int activeColor = readActiveColor(data);
+        List<Card> deckCards = readCards(data);
+        Player[] seats = new Player[seatCount];
+        for (int seat = 0; seat < seatCount; seat++) {
+            int type = data.readUnsignedByte();
+            if (type >= GameSnapshotFormat.PLAYER_TYPES.length) {
+                throw new CorruptSaveException("Invalid player type " + type);
+            }
+            seats[seat] = readPlayer(data, GameSnapshotFormat.PLAYER_TYPES[type]);
+        }
+        return new GameUno(seats, new Deck(deckCards), readTable(data, activeColor));
+    }
+
+    private GameUno readTwoPlayers(DataInputStream data) throws IOException {
+        currentSeat = data.readByte();
+        if (currentSeat != GameSnapshotFormat.HUMAN && currentSeat != GameSnapshotFormat.MACHINE) {
+            throw new CorruptSaveException("Invalid turn " + currentSeat);
+        }
+        direction = 1;
+        int activeColor = readActiveColor(data);
+        List<Card> deckCards = readCards(data);
+        Player humanPlayer = readPlayer(data, GameSnapshotFormat.PLAYER_TYPES[GameSnapshotFormat.HUMAN]);
+        Player machinePlayer = readPlayer(data, GameSnapshotFormat.PLAYER_TYPES[GameSnapshotFormat.MACHINE]);
+        return new GameUno(humanPlayer, machinePlayer, new Deck(deckCards), readTable(data, activeColor));
+    }
+
+    private static int readActiveColor(DataInputStream data) throws IOException {
+        byte activeColor = data.readByte();
+        if (activeColor < CardCode.NO_COLOR || activeColor > CardCode.YELLOW) {
+            throw new CorruptSaveException("Invalid active color " + activeColor);
+        }
+        return activeColor;
+    }
+
+    private Player readPlayer(DataInputStream data, String type) throws IOException {
+        Player player = new Player(type);
+        readCards(data).forEach(player::addCard);
+        return player;
+    }
+
+    private Table readTable(DataInputStream data, int activeColor) throws IOException {
+        Table table = new Table();
+        readCards(data).forEach(table::addCardOnTheTable);
+        table.setActiveColor(activeColor);
+        return table;
+    }
+
+    private List<Card> readCards(DataInputStream data) throws IOException {
+        int count = data.readUnsignedShort();
+        if (count > GameSnapshotFormat.MAX_CARDS) {
+            throw new CorruptSaveException("Invalid card count " + count);
+        }
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte code = data.readByte();
+            if (code < 0 || code >= CardCode.FACE_COUNT) {
+                throw new CorruptSaveException("Invalid card code " + code);
+            }
+            EISCUnoEnum face = CardCode.faceOf(code);
+            int copy = copiesRead[code]++;
+            if (copy >= Card.copiesOf(face)) {
+                throw new CorruptSaveException("Too many copies of card " + face);
+            }
+            cards.add(Card.of(face, copy));
+        }
+        return cards;
+    }
+}
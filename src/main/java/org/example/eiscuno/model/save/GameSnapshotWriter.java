@@ -0,0 +1,74 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes a {@link GameUno} as a compact binary snapshot.
+ * <p>
+ * Each card is written as its one-byte {@code CardCode}, so a whole game takes a few
+ * hundred bytes. The snapshot ends with a CRC32 checksum that lets the
+ * {@link GameSnapshotReader} reject damaged files. See {@link GameSnapshotFormat} for
+ * the layout.
+ * </p>
+ */
+public class GameSnapshotWriter {
+    private final OutputStream out;
+
+    /**
+     * @param out the stream to write to; it is flushed but not closed by {@link #write(GameUno)}
+     */
+    public GameSnapshotWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes the snapshot of a game that has no journal.
+     *
+     * @param game the game to save
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(GameUno game) throws IOException {
+        write(game, 0);
+    }
+
+    /**
+     * Writes the snapshot of a game.
+     *
+     * @param game       the game to save
+     * @param generation the generation of the {@link MoveJournal} that continues this snapshot
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(GameUno game, int generation) throws IOException {
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, crc));
+        data.writeInt(GameSnapshotFormat.MAGIC);
+        data.writeShort(GameSnapshotFormat.VERSION);
+        data.writeInt(generation);
+        data.writeByte(game.getSeatCount());
+        data.writeByte(game.getCurrentSeat());
+        data.writeByte(game.getDirection());
+        data.writeByte(game.getTable().getActiveColorCode());
+        writeCards(data, game.getDeck().toCardCodes());
+        for (int seat = 0; seat < game.getSeatCount(); seat++) {
+            Player player = game.getPlayer(seat);
+            data.writeByte(player.getTypePlayer().equals(GameSnapshotFormat.PLAYER_TYPES[GameSnapshotFormat.HUMAN])
+                    ? GameSnapshotFormat.HUMAN : GameSnapshotFormat.MACHINE);
+            writeCards(data, player.toCardCodes());
+        }
+        writeCards(data, game.getTable().toCardCodes());
+        data.writeInt((int) crc.getValue());
+        data.flush();
+    }
+
+    private static void writeCards(DataOutputStream data, byte[] codes) throws IOException {
+        data.writeShort(codes.length);
+        data.write(codes);
+    }
+}
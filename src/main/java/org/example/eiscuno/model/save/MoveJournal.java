@@ -0,0 +1,198 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only file of the moves played since the last snapshot of a game.
+ * <p>
+ * The file starts with an 8-byte header (magic {@code 'U' 'N' 'O' 'J'} and the journal
+ * generation) followed by fixed-size 4-byte records: operation, two arguments and a check
+ * byte. A generation is only replayed on top of the snapshot that carries the same
+ * generation, so a crash in the middle of a compaction never applies moves twice. A
+ * record cut short by a crash fails its check and ends the replay.
+ * </p>
+ */
+public class MoveJournal implements Closeable {
+
+    static final int MAGIC = 0x554E4F4A;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_SIZE = 4;
+
+    static final byte DRAW = 1;
+    static final byte PLAY = 2;
+    static final byte COLOR = 3;
+    static final byte TURN = 4;
+    static final byte REVERSE = 5;
+
+    private final FileChannel channel;
+    private final int generation;
+
+    /**
+     * Opens the journal file for appending, creating it if needed.
+     *
+     * @param path the journal file
+     * @throws IOException if the file cannot be opened
+     */
+    public MoveJournal(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header) >= 0) {
+            // Read the whole header of an existing journal
+        }
+        header.flip();
+        this.generation = header.remaining() == HEADER_SIZE && header.getInt() == MAGIC ? header.getInt() : 0;
+        this.channel.position(channel.size());
+    }
+
+    /**
+     * Gets the generation found in the header of the journal when it was opened. A new
+     * snapshot must use a greater generation, so that leftover moves are never replayed
+     * on top of it.
+     *
+     * @return the generation of the existing journal, 0 if it had none
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Encodes a record into a buffer.
+     *
+     * @param buffer the destination
+     * @param offset where the record starts
+     * @param op     the operation
+     * @param a      the first argument
+     * @param b      the second argument
+     */
+    static void encode(byte[] buffer, int offset, byte op, int a, int b) {
+        buffer[offset] = op;
+        buffer[offset + 1] = (byte) a;
+        buffer[offset + 2] = (byte) b;
+        buffer[offset + 3] = check(op, (byte) a, (byte) b);
+    }
+
+    private static byte check(byte op, byte a, byte b) {
+        return (byte) ((op * 31 + a * 7 + b) ^ 0x5A);
+    }
+
+    /**
+     * Empties the journal and starts a new generation.
+     *
+     * @param generation the generation of the snapshot this journal continues
+     * @throws IOException if the file cannot be written
+     */
+    public void reset(int generation) throws IOException {
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(generation);
+        header.flip();
+        channel.position(0);
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Appends encoded records at the end of the journal, without forcing them to disk.
+     *
+     * @param records the encoded records
+     * @param length  the number of bytes to write
+     * @throws IOException if the file cannot be written
+     */
+    public void append(byte[] records, int length) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(records, 0, length);
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * Forces every appended record to the storage device.
+     *
+     * @throws IOException if the file cannot be synced
+     */
+    public void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Applies the moves of a journal to the game restored from its snapshot.
+     *
+     * @param path       the journal file
+     * @param generation the generation of the snapshot the game was restored from
+     * @param game       the restored game; it must not have a journal attached
+     * @return the number of moves applied, 0 if the journal is missing or belongs to another generation
+     * @throws CorruptSaveException if a complete record does not fit the game
+     * @throws IOException          if the file cannot be read
+     */
+    public static int replay(Path path, int generation, GameUno game) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer data = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_SIZE || data.getInt() != MAGIC || data.getInt() != generation) {
+            return 0;
+        }
+        int applied = 0;
+        while (data.remaining() >= RECORD_SIZE) {
+            byte op = data.get();
+            byte a = data.get();
+            byte b = data.get();
+            if (data.get() != check(op, a, b)) {
+                break;
+            }
+            apply(game, op, a, b);
+            applied++;
+        }
+        return applied;
+    }
+
+    private static void apply(GameUno game, byte op, byte a, byte b) throws CorruptSaveException {
+        if (op != COLOR && (a < 0 || a >= game.getSeatCount())) {
+            throw new CorruptSaveException("Invalid seat " + a + " in journal");
+        }
+        switch (op) {
+            case DRAW:
+                game.eatCard(game.getPlayer(a), b);
+                break;
+            case PLAY:
+                Player player = game.getPlayer(a);
+                if (b < 0 || b >= player.getCardsPlayer().size()) {
+                    throw new CorruptSaveException("Invalid card position " + b + " in journal");
+                }
+                game.playCardFromHand(player, b);
+                break;
+            case COLOR:
+                if (a < CardCode.NO_COLOR || a > CardCode.YELLOW) {
+                    throw new CorruptSaveException("Invalid color " + a + " in journal");
+                }
+                game.setActiveColor(a);
+                break;
+            case TURN:
+                game.setCurrentSeat(a);
+                break;
+            case REVERSE:
+                game.reverseDirection();
+                break;
+            default:
+                throw new CorruptSaveException("Unknown journal operation " + op);
+        }
+    }
+}
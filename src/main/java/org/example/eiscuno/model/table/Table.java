@@ -1,24 +1,32 @@
 package org.example.eiscuno.model.table;
 
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.deck.Deck;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Represents the table in a game of EISCUno, where cards are played.
  * This class manages the cards currently on the table and keeps track of the
  * active color.
+ * <p>
+ * The discard pile is an array sized for a whole deck. When the deck runs dry, the cards
+ * under the top card go back to the deck with {@link #moveCardsUnderTopTo(Deck)}, so the
+ * pile never grows beyond the cards of one game.
+ * </p>
  */
 public class Table implements Serializable {
-    private static final long serialVersionUID = 1L;
-    private ArrayList<Card> cardsTable;
-    private String activeColor;
+    private static final long serialVersionUID = 3L;
+    private Card[] cardsTable;
+    private int size;
+    private int activeColor = CardCode.NO_COLOR;
 
     /**
-     * Constructs a new Table instance with an empty list of cards.
+     * Constructs a new Table instance with an empty discard pile.
      */
     public Table() {
-        this.cardsTable = new ArrayList<>();
+        this.cardsTable = new Card[Card.COUNT];
     }
 
     /**
@@ -28,9 +36,12 @@ public class Table implements Serializable {
      * @param card The card to be added to the table.
      */
     public void addCardOnTheTable(Card card) {
-        this.cardsTable.add(card);
-        if (!card.getColor().equals("WILD")) {
-            this.setActiveColor(card.getColor());
+        if (size == cardsTable.length) {
+            cardsTable = Arrays.copyOf(cardsTable, size * 2);
+        }
+        cardsTable[size++] = card;
+        if (!CardCode.isWild(card.getCode())) {
+            this.activeColor = card.getColorCode();
         }
     }
 
@@ -41,10 +52,54 @@ public class Table implements Serializable {
      * @throws IndexOutOfBoundsException if there are no cards on the table.
      */
     public Card getCurrentCardOnTheTable() throws IndexOutOfBoundsException {
-        if (cardsTable.isEmpty()) {
+        if (size == 0) {
             throw new IndexOutOfBoundsException("There are no cards on the table.");
         }
-        return this.cardsTable.get(this.cardsTable.size() - 1);
+        return this.cardsTable[size - 1];
+    }
+
+    /**
+     * Puts every card of the discard pile except the top one back into a deck, keeping
+     * the same card instances. The deck is not shuffled.
+     *
+     * @param deck the deck that receives the cards
+     * @return the number of cards moved
+     */
+    public int moveCardsUnderTopTo(Deck deck) {
+        if (size <= 1) {
+            return 0;
+        }
+        int moved = size - 1;
+        for (int i = 0; i < moved; i++) {
+            deck.putBack(cardsTable[i]);
+        }
+        cardsTable[0] = cardsTable[moved];
+        Arrays.fill(cardsTable, 1, size, null);
+        size = 1;
+        return moved;
+    }
+
+    /**
+     * Creates a table with the same discard pile and active color.
+     *
+     * @return the copy
+     */
+    public Table copy() {
+        Table copy = new Table();
+        copy.cardsTable = Arrays.copyOf(cardsTable, cardsTable.length);
+        copy.size = size;
+        copy.activeColor = activeColor;
+        return copy;
+    }
+
+    /**
+     * Removes every card from the table and forgets the active color, keeping the pile
+     * array for the next game.
+     */
+    public void clear() {
+        Arrays.fill(cardsTable, 0, size, null);
+        size = 0;
+        activeColor = CardCode.NO_COLOR;
     }
 
     /**
@@ -53,6 +108,15 @@ public class Table implements Serializable {
      * @return true if there are no cards on the table, false otherwise.
      */
     public String getActiveColor() {
+        return CardCode.colorName(activeColor);
+    }
+
+    /**
+     * Gets the active color as a {@link CardCode} color constant.
+     *
+     * @return the active color, or {@link CardCode#NO_COLOR} if none is enforced yet.
+     */
+    public int getActiveColorCode() {
         return activeColor;
     }
 
@@ -63,15 +127,37 @@ public class Table implements Serializable {
      * @param activeColor the new color to be enforced in the game.
      */
     public void setActiveColor(String activeColor) {
+        this.activeColor = CardCode.parseColor(activeColor);
+    }
+
+    /**
+     * Sets the active color from a {@link CardCode} color constant.
+     *
+     * @param activeColor the new color to be enforced in the game.
+     */
+    public void setActiveColor(int activeColor) {
         this.activeColor = activeColor;
     }
 
     /**
-     * Returns the list of cards currently on the table's discard pile.
+     * Returns the number of cards in the table's discard pile.
+     *
+     * @return the number of cards on the table
+     */
+    public int getCardCount() {
+        return size;
+    }
+
+    /**
+     * Gets the discard pile as compact card codes, from the first to the top card.
      *
-     * @return An ArrayList of Card objects on the table.
+     * @return a new array with one {@link CardCode} per card on the table
      */
-    public ArrayList<Card> getCardsTable() {
-        return cardsTable;
+    public byte[] toCardCodes() {
+        byte[] codes = new byte[size];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = cardsTable[i].getCode();
+        }
+        return codes;
     }
 }
\ No newline at end of file
@@ -0,0 +1,473 @@
+package org.example.eiscuno.server;
+
+import org.example.eiscuno.jfr.MachineDecisionEvent;
+import org.example.eiscuno.metrics.GameMetrics;
+import org.example.eiscuno.metrics.MetricsRegistry;
+import org.example.eiscuno.metrics.MetricsServer;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.FirstPlayableStrategy;
+import org.example.eiscuno.model.machine.MachineMove;
+import org.example.eiscuno.model.machine.MachineStrategy;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.MoveResult;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.session.GameSession;
+import org.example.eiscuno.session.SessionManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hosts many games at once over TCP, without any UI, speaking the {@link UnoProtocol}.
+ * <p>
+ * A single thread multiplexes every connection with a NIO {@link Selector}: it only reads
+ * frames and writes answers. Each connection owns one {@link GameSession}, whose game is
+ * played on the carriers of a {@link SessionManager}: the client plays seat 0 against
+ * machine players, which move right after the client. A session answers by queueing the
+ * frame on its connection and waking the selector, so a slow strategy never holds up the
+ * other tables, and no game state is shared between threads. Usage:
+ * </p>
+ * <pre>
+ *     mvn -q compile exec:java -Dexec.mainClass=org.example.eiscuno.server.GameServer \
+ *         -Dexec.args="--port=7777"
+ * </pre>
+ */
+public class GameServer implements Closeable {
+
+    /** The seat played by the client in every game. */
+    static final int CLIENT_SEAT = 0;
+
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int WRITE_BUFFER_SIZE = 4 * (UnoProtocol.MAX_RESPONSE_LENGTH + UnoProtocol.HEADER_SIZE);
+
+    private final int requestedPort;
+    private final MachineStrategy strategy;
+    private final SessionManager sessions;
+    private final boolean ownsSessions;
+    private final Queue<Connection> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    // Only used by the selector thread: one independent stream per connection.
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread loop;
+    private volatile boolean running;
+    private volatile int connections;
+
+    /**
+     * One client. The key and the buffers are only used by the server thread, the game and
+     * the move result only by the session; answers go from the session to the server
+     * thread through the outbox.
+     */
+    private static final class Connection {
+        private final SelectionKey key;
+        private final GameSession session;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        private final Queue<ByteBuffer> outbox = new ConcurrentLinkedQueue<>();
+        private final MoveResult result = new MoveResult();
+        private final SplittableRandom random;
+        private GameUno game;
+        /** The deck of the connection's games, reset in place for each new game. */
+        private Deck deck;
+
+        Connection(SelectionKey key, GameSession session, SplittableRandom random) {
+            this.key = key;
+            this.session = session;
+            this.random = random;
+        }
+    }
+
+    /**
+     * Creates a server that plays its games on its own sessions, one carrier per core.
+     *
+     * @param port     the TCP port to listen on, 0 for any free port
+     * @param strategy the strategy of the machine players, shared by every game
+     */
+    public GameServer(int port, MachineStrategy strategy) {
+        this(port, strategy, new SessionManager(), true);
+    }
+
+    /**
+     * @param port     the TCP port to listen on, 0 for any free port
+     * @param strategy the strategy of the machine players, shared by every game
+     * @param sessions the sessions that play the games; they are not closed with the server
+     */
+    public GameServer(int port, MachineStrategy strategy, SessionManager sessions) {
+        this(port, strategy, sessions, false);
+    }
+
+    private GameServer(int port, MachineStrategy strategy, SessionManager sessions, boolean ownsSessions) {
+        this.requestedPort = port;
+        this.strategy = strategy;
+        this.sessions = sessions;
+        this.ownsSessions = ownsSessions;
+    }
+
+    /**
+     * Binds the port and starts serving on a new thread.
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(requestedPort), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        loop = new Thread(this::run, "uno-server");
+        loop.start();
+    }
+
+    /**
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * @return the number of open client connections
+     */
+    public int getConnectionCount() {
+        return connections;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select(this::handle);
+                wakeupPending.set(false);
+                for (Connection connection = ready.poll(); connection != null; connection = ready.poll()) {
+                    sendAnswers(connection);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("The game server stopped.");
+            e.printStackTrace();
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key);
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        try {
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            if (key.isReadable()) {
+                read(key);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(key);
+            }
+        } catch (IOException e) {
+            // The client went away or broke the protocol: only its own game is dropped.
+            closeQuietly(key);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(key, sessions.open(), seeds.split()));
+            connections++;
+        }
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer in = connection.in;
+        if (((SocketChannel) key.channel()).read(in) < 0) {
+            closeQuietly(key);
+            return;
+        }
+        in.flip();
+        while (in.remaining() >= UnoProtocol.HEADER_SIZE) {
+            int length = in.getShort(in.position()) & 0xFFFF;
+            if (length == 0 || length > UnoProtocol.MAX_REQUEST_LENGTH) {
+                throw new IOException("Invalid frame length " + length);
+            }
+            if (in.remaining() < UnoProtocol.HEADER_SIZE + length) {
+                break;
+            }
+            in.position(in.position() + UnoProtocol.HEADER_SIZE);
+            int end = in.position() + length;
+            byte type = in.get();
+            int first = length > 1 ? in.get() : 0;
+            int second = length > 2 ? in.get() : 0;
+            in.position(end);
+            connection.session.execute(() -> answer(connection, serve(connection, type, length, first, second)));
+        }
+        in.compact();
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer out = connection.out;
+        out.flip();
+        ((SocketChannel) key.channel()).write(out);
+        out.compact();
+        key.interestOps(out.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    /**
+     * Hands an answer from a session to the server thread.
+     */
+    private void answer(Connection connection, ByteBuffer frame) {
+        frame.flip();
+        connection.outbox.offer(frame);
+        ready.offer(connection);
+        if (wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Moves the queued answers of a connection to its output buffer and writes them.
+     */
+    private void sendAnswers(Connection connection) {
+        if (!connection.key.isValid()) {
+            return;
+        }
+        for (ByteBuffer frame = connection.outbox.poll(); frame != null; frame = connection.outbox.poll()) {
+            reserveOutput(connection, frame.remaining());
+            connection.out.put(frame);
+        }
+        try {
+            write(connection.key);
+        } catch (IOException e) {
+            closeQuietly(connection.key);
+        }
+    }
+
+    /**
+     * Answers one request, on the session of the connection.
+     *
+     * @param type   the message type
+     * @param length the length of the request body
+     * @param first  the first byte of the payload, if any
+     * @param second the second byte of the payload, if any
+     * @return the answer frame
+     */
+    private ByteBuffer serve(Connection connection, byte type, int length, int first, int second) {
+        ByteBuffer out = ByteBuffer.allocate(UnoProtocol.MAX_RESPONSE_LENGTH + UnoProtocol.HEADER_SIZE);
+        if (type == UnoProtocol.NEW_GAME && length == 2) {
+            newGame(connection, out, first);
+        } else if (type == UnoProtocol.PLAY && length == 3) {
+            play(connection, out, first & 0xFF, second);
+        } else if (type == UnoProtocol.DRAW && length == 1) {
+            draw(connection, out);
+        } else {
+            UnoProtocol.writeError(out, UnoProtocol.BAD_REQUEST);
+        }
+        return out;
+    }
+
+    private void newGame(Connection connection, ByteBuffer out, int seats) {
+        if (seats < GameUno.MIN_SEATS || seats > GameUno.MAX_SEATS) {
+            UnoProtocol.writeError(out, UnoProtocol.BAD_REQUEST);
+            return;
+        }
+        Player[] players = new Player[seats];
+        players[CLIENT_SEAT] = new Player("HUMAN_PLAYER");
+        for (int seat = 1; seat < seats; seat++) {
+            players[seat] = new Player("MACHINE_PLAYER");
+        }
+        Deck deck = connection.deck;
+        if (deck == null) {
+            deck = new Deck(connection.random.split());
+            connection.deck = deck;
+        } else {
+            deck.reset(connection.random.nextLong());
+        }
+        Table table = new Table();
+        GameUno game = new GameUno(players, deck, table);
+        game.setSessionId(connection.session.getId());
+        game.startGame();
+        table.addCardOnTheTable(deck.takeCard());
+        connection.game = game;
+        GameMetrics.watch(game);
+        playMachines(game, connection.result);
+        UnoProtocol.writeState(out, game, CLIENT_SEAT);
+    }
+
+    private void play(Connection connection, ByteBuffer out, int handIndex, int color) {
+        GameUno game = clientTurn(connection, out);
+        if (game == null) {
+            return;
+        }
+        Player player = game.getPlayer(CLIENT_SEAT);
+        if (handIndex >= player.getCardsPlayer().size()) {
+            UnoProtocol.writeError(out, UnoProtocol.ILLEGAL_MOVE);
+            return;
+        }
+        Card card = player.getCard(handIndex);
+        boolean wild = CardCode.isWild(card.getCode());
+        if (wild && (color < CardCode.RED || color > CardCode.YELLOW)) {
+            UnoProtocol.writeError(out, UnoProtocol.ILLEGAL_MOVE);
+            return;
+        }
+        UnoRulesEngine.applyPlay(game, player, card, wild ? color : CardCode.NO_COLOR, connection.result);
+        if (!connection.result.isLegal()) {
+            UnoProtocol.writeError(out, UnoProtocol.ILLEGAL_MOVE);
+            return;
+        }
+        playMachines(game, connection.result);
+        UnoProtocol.writeState(out, game, CLIENT_SEAT);
+    }
+
+    private void draw(Connection connection, ByteBuffer out) {
+        GameUno game = clientTurn(connection, out);
+        if (game == null) {
+            return;
+        }
+        UnoRulesEngine.applyDraw(game, game.getPlayer(CLIENT_SEAT), connection.result);
+        playMachines(game, connection.result);
+        UnoProtocol.writeState(out, game, CLIENT_SEAT);
+    }
+
+    /**
+     * Gets the game of a connection if the client may move, or answers with the error.
+     */
+    private static GameUno clientTurn(Connection connection, ByteBuffer out) {
+        GameUno game = connection.game;
+        if (game == null) {
+            UnoProtocol.writeError(out, UnoProtocol.NO_GAME);
+            return null;
+        }
+        if (game.isGameOver() || game.getCurrentSeat() != CLIENT_SEAT) {
+            UnoProtocol.writeError(out, UnoProtocol.NOT_YOUR_TURN);
+            return null;
+        }
+        return game;
+    }
+
+    /**
+     * Plays the machine seats until it is the client's turn again or the game is over.
+     * A machine whose chosen card is rejected draws instead, so a faulty strategy cannot
+     * stall the loop.
+     */
+    private void playMachines(GameUno game, MoveResult result) {
+        while (!game.isGameOver() && game.getCurrentSeat() != CLIENT_SEAT) {
+            Player machine = game.getCurrentPlayer();
+            MachineDecisionEvent trace = new MachineDecisionEvent();
+            trace.begin();
+            long start = System.nanoTime();
+            MachineMove move = strategy.chooseMove(game, machine);
+            GameMetrics.MACHINE_DECISION.recordSince(start);
+            trace.record(game, machine, strategy, move);
+            if (move.isDraw()) {
+                UnoRulesEngine.applyDraw(game, machine, result);
+            } else {
+                UnoRulesEngine.applyPlay(game, machine, move.getCard(), move.getColor(), result);
+                if (!result.isLegal()) {
+                    // A rejected play leaves the turn unchanged: draw instead so the loop moves on
+                    UnoRulesEngine.applyDraw(game, machine, result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes room for one more answer, for clients that send requests without waiting.
+     */
+    private static void reserveOutput(Connection connection, int needed) {
+        if (connection.out.remaining() < needed) {
+            ByteBuffer bigger = ByteBuffer.allocate(connection.out.capacity() * 2 + needed);
+            connection.out.flip();
+            bigger.put(connection.out);
+            connection.out = bigger;
+        }
+    }
+
+    private void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // Nothing left to release.
+        }
+        if (key.attachment() instanceof Connection) {
+            sessions.close(((Connection) key.attachment()).session);
+            key.attach(null);
+            connections--;
+        }
+    }
+
+    /**
+     * Stops serving and closes every connection.
+     *
+     * @throws IOException if the server channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            loop.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        selector.close();
+        if (ownsSessions) {
+            sessions.close();
+        }
+    }
+
+    /**
+     * Runs a server from the command line until the process is stopped.
+     *
+     * @param args {@code --port=P} and {@code --metrics-port=M}, both optional; the
+     *             metrics are only served if a metrics port is given
+     * @throws IOException if a port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = 7777;
+        int metricsPort = -1;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else if (arg.startsWith("--metrics-port=")) {
+                metricsPort = Integer.parseInt(arg.substring("--metrics-port=".length()));
+            } else {
+                System.err.println("Unknown argument: " + arg);
+                System.err.println("Usage: GameServer [--port=P] [--metrics-port=M]");
+                return;
+            }
+        }
+        if (metricsPort >= 0) {
+            MetricsServer metrics = new MetricsServer(MetricsRegistry.getInstance(), metricsPort);
+            System.out.println("Serving metrics on http://localhost:" + metrics.getPort() + "/metrics");
+        }
+        GameServer server = new GameServer(port, new FirstPlayableStrategy());
+        server.start();
+        System.out.println("Serving Uno games on port " + server.getPort());
+    }
+}
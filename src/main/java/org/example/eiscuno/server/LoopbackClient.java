@@ -0,0 +1,231 @@
+package org.example.eiscuno.server;
+
+import org.example.eiscuno.model.card.CardCode;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A blocking client of the {@link GameServer} on the local machine, one request at a time.
+ * <p>
+ * Its {@link #main(String[])} starts many clients that play whole games with the first
+ * playable card and reports the round-trip latency of their moves, to exercise a server
+ * locally. Usage:
+ * </p>
+ * <pre>
+ *     mvn -q compile exec:java -Dexec.mainClass=org.example.eiscuno.server.LoopbackClient \
+ *         -Dexec.args="--port=7777 --clients=200 --games=20 --seats=4"
+ * </pre>
+ */
+public class LoopbackClient implements Closeable {
+
+    private final SocketChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocate(16);
+    private final ByteBuffer in = ByteBuffer.allocate(UnoProtocol.MAX_RESPONSE_LENGTH + UnoProtocol.HEADER_SIZE);
+
+    /**
+     * Connects to a server on the loopback address.
+     *
+     * @param port the port of the server
+     * @throws IOException if the connection fails
+     */
+    public LoopbackClient(int port) throws IOException {
+        channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+
+    /**
+     * Starts a new game, replacing the current one. The client plays seat 0.
+     *
+     * @param seats the number of players, 2 to 10
+     * @return the state of the game when it is the client's turn
+     * @throws ProtocolException if the server rejects the request
+     * @throws IOException       if the connection fails
+     */
+    public TableState newGame(int seats) throws IOException {
+        UnoProtocol.writeNewGame(out, seats);
+        return send();
+    }
+
+    /**
+     * Plays a card of the hand.
+     *
+     * @param handIndex the index of the card in the hand
+     * @param color     the {@code CardCode} color chosen for a WILD or +4, {@link CardCode#NO_COLOR} otherwise
+     * @return the state of the game when it is the client's turn again, or when it is over
+     * @throws ProtocolException if the server rejects the move
+     * @throws IOException       if the connection fails
+     */
+    public TableState play(int handIndex, int color) throws IOException {
+        UnoProtocol.writePlay(out, handIndex, color);
+        return send();
+    }
+
+    /**
+     * Draws a card.
+     *
+     * @return the state of the game when it is the client's turn again, or when it is over
+     * @throws ProtocolException if the server rejects the move
+     * @throws IOException       if the connection fails
+     */
+    public TableState draw() throws IOException {
+        UnoProtocol.writeDraw(out);
+        return send();
+    }
+
+    /**
+     * Plays one turn with the first playable card, asking for red after a wild card, or
+     * draws if nothing can be played.
+     *
+     * @param state the current state, with the client to move
+     * @return the next state
+     * @throws IOException if the connection fails or the server rejects the move
+     */
+    public TableState playFirstPlayable(TableState state) throws IOException {
+        int index = state.findPlayableCard();
+        if (index < 0) {
+            return draw();
+        }
+        return play(index, CardCode.isWild(state.getHand()[index]) ? CardCode.RED : CardCode.NO_COLOR);
+    }
+
+    private TableState send() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+
+        in.clear().limit(UnoProtocol.HEADER_SIZE);
+        fill();
+        int length = in.getShort(0) & 0xFFFF;
+        in.limit(UnoProtocol.HEADER_SIZE + length);
+        fill();
+        in.position(UnoProtocol.HEADER_SIZE);
+        byte type = in.get();
+        if (type == UnoProtocol.ERROR) {
+            throw new ProtocolException(in.get());
+        }
+        if (type != UnoProtocol.STATE) {
+            throw new IOException("Unexpected message " + type);
+        }
+        return UnoProtocol.readState(in);
+    }
+
+    private void fill() throws IOException {
+        while (in.hasRemaining()) {
+            if (channel.read(in) < 0) {
+                throw new EOFException("The server closed the connection");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Plays games against a running server from many clients at once.
+     *
+     * @param args {@code --port=P --clients=C --games=G --seats=S}, all optional
+     * @throws Exception if a client fails
+     */
+    public static void main(String[] args) throws Exception {
+        int port = 7777;
+        int clients = 100;
+        int games = 10;
+        int seats = 2;
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            switch (option.length == 2 ? option[0] : arg) {
+                case "--port":
+                    port = Integer.parseInt(option[1]);
+                    break;
+                case "--clients":
+                    clients = Integer.parseInt(option[1]);
+                    break;
+                case "--games":
+                    games = Integer.parseInt(option[1]);
+                    break;
+                case "--seats":
+                    seats = Integer.parseInt(option[1]);
+                    break;
+                default:
+                    System.err.println("Unknown argument: " + arg);
+                    System.err.println("Usage: LoopbackClient [--port=P] [--clients=C] [--games=G] [--seats=S]");
+                    return;
+            }
+        }
+
+        ExecutorService threads = Executors.newFixedThreadPool(clients);
+        List<Future<long[]>> latencies = new ArrayList<>(clients);
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            int finalPort = port;
+            int finalGames = games;
+            int finalSeats = seats;
+            latencies.add(threads.submit(() -> playGames(finalPort, finalGames, finalSeats)));
+        }
+        long[] all = new long[0];
+        try {
+            for (Future<long[]> latency : latencies) {
+                long[] moves = latency.get();
+                int size = all.length;
+                all = Arrays.copyOf(all, size + moves.length);
+                System.arraycopy(moves, 0, all, size, moves.length);
+            }
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        } finally {
+            threads.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(all);
+        System.out.printf("%d games, %d moves in %.1f s (%.0f moves/s)%n", (long) clients * games, all.length,
+                seconds, all.length / seconds);
+        System.out.printf("Round trip: p50 %.3f ms, p99 %.3f ms, max %.3f ms%n", percentile(all, 0.50) / 1e6,
+                percentile(all, 0.99) / 1e6, all[all.length - 1] / 1e6);
+    }
+
+    /**
+     * Plays games one after the other and measures every request.
+     *
+     * @return the round-trip time of each request, in nanoseconds
+     */
+    private static long[] playGames(int port, int games, int seats) throws IOException {
+        long[] latencies = new long[1024];
+        int count = 0;
+        try (LoopbackClient client = new LoopbackClient(port)) {
+            for (int game = 0; game < games; game++) {
+                TableState state = null;
+                do {
+                    long sent = System.nanoTime();
+                    state = state == null ? client.newGame(seats) : client.playFirstPlayable(state);
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - sent;
+                } while (!state.isGameOver());
+            }
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))];
+    }
+}
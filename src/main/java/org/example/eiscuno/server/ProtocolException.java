@@ -0,0 +1,26 @@
+package org.example.eiscuno.server;
+
+import java.io.IOException;
+
+/**
+ * Reports an ERROR answer of the {@link GameServer} to a request.
+ */
+public class ProtocolException extends IOException {
+    private static final long serialVersionUID = 1L;
+    private final byte errorCode;
+
+    /**
+     * @param errorCode one of the error codes of {@link UnoProtocol}
+     */
+    public ProtocolException(byte errorCode) {
+        super("The server rejected the request with error " + errorCode);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * @return one of the error codes of {@link UnoProtocol}
+     */
+    public byte getErrorCode() {
+        return errorCode;
+    }
+}
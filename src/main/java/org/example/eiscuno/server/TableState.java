@@ -0,0 +1,103 @@
+package org.example.eiscuno.server;
+
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+
+/**
+ * What a client sees of its game after each answer of the {@link GameServer}: its own
+ * hand, the top card, and only the sizes of the other hands and of the deck.
+ */
+public final class TableState {
+    private final int seat;
+    private final int currentSeat;
+    private final int direction;
+    private final byte topCard;
+    private final int activeColor;
+    private final int winner;
+    private final int deckSize;
+    private final int[] handSizes;
+    private final byte[] hand;
+
+    TableState(int seat, int currentSeat, int direction, byte topCard, int activeColor, int winner,
+               int deckSize, int[] handSizes, byte[] hand) {
+        this.seat = seat;
+        this.currentSeat = currentSeat;
+        this.direction = direction;
+        this.topCard = topCard;
+        this.activeColor = activeColor;
+        this.winner = winner;
+        this.deckSize = deckSize;
+        this.handSizes = handSizes;
+        this.hand = hand;
+    }
+
+    /**
+     * Finds the first card of the hand that can be played on the top card.
+     *
+     * @return its index in the hand, or -1 if the client has to draw
+     */
+    public int findPlayableCard() {
+        for (int i = 0; i < hand.length; i++) {
+            if (UnoRulesEngine.isValidPlay(hand[i], topCard, activeColor)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the seat of the client
+     */
+    public int getSeat() { return seat; }
+
+    /**
+     * @return the seat of the player to move
+     */
+    public int getCurrentSeat() { return currentSeat; }
+
+    /**
+     * @return 1 if play goes up the seats, -1 after an odd number of reverses
+     */
+    public int getDirection() { return direction; }
+
+    /**
+     * @return the {@code CardCode} of the card on top of the discard pile
+     */
+    public byte getTopCard() { return topCard; }
+
+    /**
+     * @return the {@code CardCode} color to follow, {@link CardCode#NO_COLOR} if none
+     */
+    public int getActiveColor() { return activeColor; }
+
+    /**
+     * @return the seat of the winner, or -1 while the game is played
+     */
+    public int getWinner() { return winner; }
+
+    /**
+     * @return true if a player has emptied their hand
+     */
+    public boolean isGameOver() { return winner >= 0; }
+
+    /**
+     * @return the number of cards left in the deck
+     */
+    public int getDeckSize() { return deckSize; }
+
+    /**
+     * @param seat a seat
+     * @return the number of cards in the hand of that seat
+     */
+    public int getHandSize(int seat) { return handSizes[seat]; }
+
+    /**
+     * @return the number of players
+     */
+    public int getSeatCount() { return handSizes.length; }
+
+    /**
+     * @return the {@code CardCode}s of the client's hand, in hand order
+     */
+    public byte[] getHand() { return hand.clone(); }
+}
@@ -0,0 +1,169 @@
+package org.example.eiscuno.server;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The binary protocol spoken between the {@link GameServer} and its clients.
+ * <p>
+ * Every message is a frame: an unsigned short with the length of the body, then the body,
+ * which starts with the message type. All numbers are big-endian.
+ * <pre>
+ * Client to server:
+ *   NEW_GAME  byte seats        starts a game of 2 to 10 players; the client plays seat 0
+ *   PLAY      byte hand index,
+ *             byte color        a {@code CardCode} color for a WILD or +4, -1 otherwise
+ *   DRAW
+ *
+ * Server to client, one answer per request:
+ *   STATE     byte your seat, byte current seat, byte direction (1 or -1),
+ *             byte top card code, byte active color, byte winner seat (-1 while playing),
+ *             byte deck size, byte seat count, one byte per seat with the size of its hand,
+ *             byte n, n bytes   the client's hand, in hand order
+ *   ERROR     byte error code
+ * </pre>
+ * The server answers a request only once every machine has played, so a STATE always
+ * finds the client to move, unless the game is over.
+ * </p>
+ */
+public final class UnoProtocol {
+
+    public static final byte NEW_GAME = 1;
+    public static final byte PLAY = 2;
+    public static final byte DRAW = 3;
+
+    public static final byte STATE = 64;
+    public static final byte ERROR = 65;
+
+    /** The request is malformed or of an unknown type. */
+    public static final byte BAD_REQUEST = 1;
+    /** A move was sent before any game was started. */
+    public static final byte NO_GAME = 2;
+    /** A move was sent while it was not the client's turn or after the game ended. */
+    public static final byte NOT_YOUR_TURN = 3;
+    /** The card cannot be played, is not in the hand or lacks a chosen color. */
+    public static final byte ILLEGAL_MOVE = 4;
+
+    /** The size of the length prefix of a frame. */
+    static final int HEADER_SIZE = 2;
+    /** The longest request body; longer frames close the connection. */
+    static final int MAX_REQUEST_LENGTH = 3;
+    /** The longest response body: a STATE with ten seats and every card in hand. */
+    static final int MAX_RESPONSE_LENGTH = 9 + GameUno.MAX_SEATS + 1 + Card.COUNT;
+
+    private UnoProtocol() {
+    }
+
+    /**
+     * Writes a NEW_GAME request.
+     *
+     * @param out   the destination
+     * @param seats the number of players
+     */
+    public static void writeNewGame(ByteBuffer out, int seats) {
+        out.putShort((short) 2).put(NEW_GAME).put((byte) seats);
+    }
+
+    /**
+     * Writes a PLAY request.
+     *
+     * @param out       the destination
+     * @param handIndex the index of the card in the client's hand
+     * @param color     the {@code CardCode} color chosen for a WILD or +4, {@link CardCode#NO_COLOR} otherwise
+     */
+    public static void writePlay(ByteBuffer out, int handIndex, int color) {
+        out.putShort((short) 3).put(PLAY).put((byte) handIndex).put((byte) color);
+    }
+
+    /**
+     * Writes a DRAW request.
+     *
+     * @param out the destination
+     */
+    public static void writeDraw(ByteBuffer out) {
+        out.putShort((short) 1).put(DRAW);
+    }
+
+    /**
+     * Writes an ERROR response.
+     *
+     * @param out  the destination
+     * @param code one of the error codes
+     */
+    static void writeError(ByteBuffer out, byte code) {
+        out.putShort((short) 2).put(ERROR).put(code);
+    }
+
+    /**
+     * Writes a STATE response: what a player sees of the game from a seat.
+     *
+     * @param out  the destination, with at least {@link #MAX_RESPONSE_LENGTH} + 2 bytes left
+     * @param game the game
+     * @param seat the seat of the client
+     */
+    static void writeState(ByteBuffer out, GameUno game, int seat) {
+        int start = out.position();
+        out.position(start + HEADER_SIZE);
+        out.put(STATE);
+        out.put((byte) seat);
+        out.put((byte) game.getCurrentSeat());
+        out.put((byte) game.getDirection());
+        out.put(game.getTable().getCurrentCardOnTheTable().getCode());
+        out.put((byte) game.getTable().getActiveColorCode());
+        out.put((byte) winnerOf(game));
+        out.put((byte) game.getDeck().size());
+        out.put((byte) game.getSeatCount());
+        for (int i = 0; i < game.getSeatCount(); i++) {
+            out.put((byte) game.getPlayer(i).getCardsPlayer().size());
+        }
+        Player player = game.getPlayer(seat);
+        int handSize = player.getCardsPlayer().size();
+        out.put((byte) handSize);
+        for (int i = 0; i < handSize; i++) {
+            out.put(player.getCard(i).getCode());
+        }
+        out.putShort(start, (short) (out.position() - start - HEADER_SIZE));
+    }
+
+    /**
+     * Reads the body of a STATE response, after its type.
+     *
+     * @param in the source, positioned after the message type
+     * @return the state
+     */
+    public static TableState readState(ByteBuffer in) {
+        int seat = in.get();
+        int currentSeat = in.get();
+        int direction = in.get();
+        byte top = in.get();
+        int activeColor = in.get();
+        int winner = in.get();
+        int deckSize = in.get() & 0xFF;
+        int[] handSizes = new int[in.get() & 0xFF];
+        for (int i = 0; i < handSizes.length; i++) {
+            handSizes[i] = in.get() & 0xFF;
+        }
+        byte[] hand = new byte[in.get() & 0xFF];
+        in.get(hand);
+        return new TableState(seat, currentSeat, direction, top, activeColor, winner, deckSize, handSizes, hand);
+    }
+
+    /**
+     * Gets the seat of the player who emptied their hand.
+     *
+     * @param game the game
+     * @return the winner's seat, or -1 if the game is not over
+     */
+    static int winnerOf(GameUno game) {
+        for (int seat = 0; seat < game.getSeatCount(); seat++) {
+            if (game.getPlayer(seat).getCardsPlayer().isEmpty()) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+}
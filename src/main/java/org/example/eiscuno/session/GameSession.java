@@ -0,0 +1,80 @@
+package org.example.eiscuno.session;
+
+import org.example.eiscuno.concurrent.SerialMailbox;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A single-writer loop that owns the state of one game.
+ * <p>
+ * Commands can be submitted from any thread. They are queued in a {@link SerialMailbox} and run
+ * one at a time, in submission order, on a carrier thread of the {@link SessionManager}, so
+ * the state a session owns is only ever touched by one thread at a time and needs no lock.
+ * A session only takes a carrier while it has commands, and gives it back after
+ * {@value #BATCH} commands so a busy session cannot starve the others.
+ * </p>
+ */
+public final class GameSession extends SerialMailbox<Runnable> implements Executor {
+
+    private static final int BATCH = 64;
+
+    private final long id;
+    private volatile boolean closed;
+
+    GameSession(long id, Executor carriers) {
+        super(carriers);
+        this.id = id;
+    }
+
+    /**
+     * @return the identifier of the session in its {@link SessionManager}
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Queues a command to run on the session's loop.
+     *
+     * @param command the command
+     * @throws RejectedExecutionException if the session is closed
+     */
+    @Override
+    public void execute(Runnable command) {
+        if (closed) {
+            throw new RejectedExecutionException("Session " + id + " is closed");
+        }
+        enqueue(command);
+    }
+
+    @Override
+    protected void drain() {
+        for (int i = 0; i < BATCH; i++) {
+            Runnable command = poll();
+            if (command == null) {
+                break;
+            }
+            try {
+                command.run();
+            } catch (RuntimeException e) {
+                System.err.println("A command of session " + id + " failed.");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Refuses new commands. The commands already queued still run.
+     */
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * @return true if the session refuses new commands
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.eiscuno.session;
+
+import org.example.eiscuno.metrics.GameMetrics;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs many {@link GameSession}s on a small pool of carrier threads.
+ * <p>
+ * Sessions are cheap: a session that has nothing to do is only a mailbox, so one JVM can
+ * hold thousands of games with as many carriers as cores. The carriers form a
+ * {@link ForkJoinPool} in asynchronous mode, which runs the scheduled sessions in FIFO
+ * order from per-thread queues.
+ * </p>
+ */
+public class SessionManager implements Closeable {
+
+    private final ForkJoinPool carriers;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    /**
+     * Creates a manager with one carrier per core.
+     */
+    public SessionManager() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param carrierThreads the number of carrier threads
+     */
+    public SessionManager(int carrierThreads) {
+        AtomicLong count = new AtomicLong();
+        this.carriers = new ForkJoinPool(carrierThreads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("uno-session-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+    }
+
+    /**
+     * Opens a new session.
+     *
+     * @return the session, registered until {@link #close(GameSession)}
+     */
+    public GameSession open() {
+        GameSession session = new GameSession(nextId.incrementAndGet(), carriers);
+        sessions.put(session.getId(), session);
+        GameMetrics.ACTIVE_SESSIONS.increment();
+        return session;
+    }
+
+    /**
+     * Gets an open session.
+     *
+     * @param id the identifier of the session
+     * @return the session, or null if there is no open session with that identifier
+     */
+    public GameSession get(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Closes a session: it refuses new commands and is forgotten by the manager. The
+     * commands already queued still run.
+     *
+     * @param session the session
+     */
+    public void close(GameSession session) {
+        session.close();
+        if (sessions.remove(session.getId()) != null) {
+            GameMetrics.ACTIVE_SESSIONS.decrement();
+        }
+    }
+
+    /**
+     * @return the number of open sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Closes every session and stops the carriers once the queued commands have run.
+     */
+    @Override
+    public void close() {
+        for (GameSession session : sessions.values()) {
+            close(session);
+        }
+        carriers.shutdown();
+        try {
+            carriers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.eiscuno.sim;
+
+import org.example.eiscuno.model.machine.MachineStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Creates the strategy of one worker thread of a {@link TournamentSimulator}.
+ */
+@FunctionalInterface
+public interface StrategyFactory {
+
+    /**
+     * @param searchPool the pool shared by the searches of the tournament
+     * @param random     a stream split from the tournament seed, owned by the strategy
+     * @return a new strategy, used by one thread only
+     */
+    MachineStrategy create(ForkJoinPool searchPool, SplittableRandom random);
+}
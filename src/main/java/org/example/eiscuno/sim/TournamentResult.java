@@ -0,0 +1,118 @@
+package org.example.eiscuno.sim;
+
+/**
+ * The statistics of a batch of simulated games between two strategies, A and B.
+ * <p>
+ * Each worker of the {@link TournamentSimulator} fills its own instance, and the instances
+ * are merged at the end, so recording a game needs no synchronization.
+ * </p>
+ */
+public class TournamentResult {
+
+    private static final double Z_95 = 1.959964;
+
+    private long games;
+    private long winsA;
+    private long winsB;
+    private long totalTurns;
+    private long deckExhausted;
+    private long elapsedNanos;
+
+    /**
+     * Records the outcome of one game.
+     *
+     * @param winner        0 if A won, 1 if B won, -1 if the game was stopped without a winner
+     * @param turns         the number of turns played
+     * @param deckExhausted true if a player had to draw from an empty deck
+     */
+    void record(int winner, int turns, boolean deckExhausted) {
+        games++;
+        if (winner == 0) {
+            winsA++;
+        } else if (winner == 1) {
+            winsB++;
+        }
+        totalTurns += turns;
+        if (deckExhausted) {
+            this.deckExhausted++;
+        }
+    }
+
+    /**
+     * Adds the games recorded by another worker.
+     *
+     * @param other the statistics to add
+     */
+    void merge(TournamentResult other) {
+        games += other.games;
+        winsA += other.winsA;
+        winsB += other.winsB;
+        totalTurns += other.totalTurns;
+        deckExhausted += other.deckExhausted;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() { return games; }
+    public long getWinsA() { return winsA; }
+    public long getWinsB() { return winsB; }
+    public long getUnfinished() { return games - winsA - winsB; }
+
+    /**
+     * @return the average number of turns of a game
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * @return the fraction of games in which a player had to draw from an empty deck
+     */
+    public double getDeckExhaustionRate() {
+        return games == 0 ? 0 : (double) deckExhausted / games;
+    }
+
+    /**
+     * @return the number of games simulated per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the 95% Wilson score interval of a win rate.
+     *
+     * @param wins the number of wins
+     * @return the lower and upper bounds of the interval
+     */
+    public double[] wilsonInterval(long wins) {
+        if (games == 0) {
+            return new double[]{0, 1};
+        }
+        double n = games;
+        double p = wins / n;
+        double z2 = Z_95 * Z_95;
+        double center = (p + z2 / (2 * n)) / (1 + z2 / n);
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n)) / (1 + z2 / n);
+        return new double[]{Math.max(0, center - margin), Math.min(1, center + margin)};
+    }
+
+    @Override
+    public String toString() {
+        double[] a = wilsonInterval(winsA);
+        double[] b = wilsonInterval(winsB);
+        return String.format(
+                "games: %d (%.0f games/s)%n"
+                        + "A wins: %.2f%% [%.2f%%, %.2f%%]%n"
+                        + "B wins: %.2f%% [%.2f%%, %.2f%%]%n"
+                        + "unfinished: %d%n"
+                        + "average length: %.1f turns%n"
+                        + "deck exhausted: %.2f%% of games",
+                games, getGamesPerSecond(),
+                100.0 * winsA / Math.max(1, games), 100 * a[0], 100 * a[1],
+                100.0 * winsB / Math.max(1, games), 100 * b[0], 100 * b[1],
+                getUnfinished(), getAverageTurns(), 100 * getDeckExhaustionRate());
+    }
+}
@@ -0,0 +1,255 @@
+package org.example.eiscuno.sim;
+
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.machine.FirstPlayableStrategy;
+import org.example.eiscuno.model.machine.IsmctsStrategy;
+import org.example.eiscuno.model.machine.MachineMove;
+import org.example.eiscuno.model.machine.MachineStrategy;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.MoveResult;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+import org.example.eiscuno.model.table.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plays complete games between two machine strategies without any UI and reports the
+ * statistics of the tournament.
+ * <p>
+ * Games are played on the model with the {@link UnoRulesEngine}, one game at a time per
+ * worker thread, with one worker per core by default. The strategies swap seats every
+ * game, so the first player's advantage is shared evenly. Game {@code n} deals from a
+ * stream seeded by the tournament seed and {@code n} alone, so a tournament of
+ * deterministic strategies gives the same result for the same seed on any number of
+ * threads, and the workers never share a random generator. The strategies of each worker
+ * get their own streams split from the tournament seed, and the searching strategies
+ * share one pool that lives as long as {@link #run(long)}. Usage:
+ * </p>
+ * <pre>
+ *     mvn -q compile exec:java -Dexec.mainClass=org.example.eiscuno.sim.TournamentSimulator \
+ *         -Dexec.args="--games=100000 --a=first --b=ismcts:5 --threads=8 --seed=42"
+ * </pre>
+ * <p>
+ * A strategy is {@code first} or {@code ismcts:<milliseconds per move>}.
+ * </p>
+ */
+public class TournamentSimulator {
+
+    /** Games longer than this are stopped without a winner, e.g. when nobody can play nor draw. */
+    static final int MAX_TURNS = 1000;
+    /** An odd constant that spreads the seeds of consecutive games. */
+    private static final long GAME_SEED_STEP = 0xBF58476D1CE4E5B9L;
+
+    private final StrategyFactory strategyA;
+    private final StrategyFactory strategyB;
+    private final int threads;
+    private final long seed;
+
+    /**
+     * Creates a tournament with a random seed.
+     *
+     * @param strategyA creates strategy A, once per worker thread
+     * @param strategyB creates strategy B, once per worker thread
+     * @param threads   the number of worker threads
+     */
+    public TournamentSimulator(StrategyFactory strategyA, StrategyFactory strategyB, int threads) {
+        this(strategyA, strategyB, threads, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * @param strategyA creates strategy A, once per worker thread
+     * @param strategyB creates strategy B, once per worker thread
+     * @param threads   the number of worker threads
+     * @param seed      the seed of the tournament
+     */
+    public TournamentSimulator(StrategyFactory strategyA, StrategyFactory strategyB, int threads, long seed) {
+        this.strategyA = strategyA;
+        this.strategyB = strategyB;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays a number of games spread over the worker threads.
+     *
+     * @param games the number of games to play
+     * @return the statistics of all the games
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public TournamentResult run(long games) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "uno-simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong searchThreads = new AtomicLong();
+        ForkJoinPool searchPool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("uno-simulator-search-" + searchThreads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        // Split here, in worker order, so the strategies' streams only depend on the seed.
+        SplittableRandom strategySeeds = new SplittableRandom(seed);
+        AtomicLong nextGame = new AtomicLong();
+        List<Future<TournamentResult>> results = new ArrayList<>(threads);
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            MachineStrategy[] strategies = {
+                    strategyA.create(searchPool, strategySeeds.split()),
+                    strategyB.create(searchPool, strategySeeds.split())
+            };
+            results.add(workers.submit(() -> playGames(strategies, nextGame, games)));
+        }
+        TournamentResult total = new TournamentResult();
+        try {
+            for (Future<TournamentResult> result : results) {
+                total.merge(result.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+            searchPool.shutdownNow();
+        }
+        total.setElapsedNanos(System.nanoTime() - start);
+        return total;
+    }
+
+    private TournamentResult playGames(MachineStrategy[] strategies, AtomicLong nextGame, long games) {
+        MoveResult moveResult = new MoveResult();
+        TournamentResult result = new TournamentResult();
+        // One set of game objects per worker, restarted in place for every game.
+        GameUno unoGame = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                new Deck(new SplittableRandom(seed)), new Table());
+        for (long game = nextGame.getAndIncrement(); game < games; game = nextGame.getAndIncrement()) {
+            playGame(strategies, (int) (game & 1), unoGame, seed + game * GAME_SEED_STEP, moveResult, result);
+        }
+        return result;
+    }
+
+    /**
+     * Restarts a game, plays it and records it.
+     *
+     * @param strategies strategies A and B
+     * @param seatOfA    the seat of strategy A: 0 plays first
+     * @param game       the game to restart, with its deck, table and players
+     * @param gameSeed   the seed of the deck
+     * @param moveResult a reusable result for the rules engine
+     * @param result     where the game is recorded
+     */
+    static void playGame(MachineStrategy[] strategies, int seatOfA, GameUno game, long gameSeed,
+                         MoveResult moveResult, TournamentResult result) {
+        game.restart(gameSeed);
+        game.startGame();
+        Deck deck = game.getDeck();
+        game.getTable().addCardOnTheTable(deck.takeCard());
+
+        Player current = game.getPlayer(0);
+        int turns = 0;
+        while (!game.isGameOver() && turns < MAX_TURNS) {
+            int seat = game.seatOf(current);
+            MachineStrategy strategy = strategies[seat == seatOfA ? 0 : 1];
+            MachineMove move = strategy.chooseMove(game, current);
+            if (move.isDraw()) {
+                UnoRulesEngine.applyDraw(game, current, moveResult);
+            } else {
+                UnoRulesEngine.applyPlay(game, current, move.getCard(), move.getColor(), moveResult);
+                if (!moveResult.isLegal()) {
+                    throw new IllegalStateException("Illegal move " + move.getCard().getValue() + " "
+                            + move.getCard().getColor());
+                }
+            }
+            current = moveResult.getNextPlayer();
+            turns++;
+        }
+
+        int winner = -1;
+        if (game.isGameOver()) {
+            int winnerSeat = game.getPlayer(0).getCardsPlayer().isEmpty() ? 0 : 1;
+            winner = winnerSeat == seatOfA ? 0 : 1;
+        }
+        // Counted by every draw, so the penalties of +2, +4 and missed UNO calls are included.
+        result.record(winner, turns, game.getEmptyDeckDraws() > 0);
+    }
+
+    /**
+     * Parses a strategy name: {@code first} or {@code ismcts:<milliseconds per move>}.
+     * A search grows a single tree per move, since the games already use every core.
+     *
+     * @param name the name of the strategy
+     * @return a factory of the strategy
+     */
+    static StrategyFactory parseStrategy(String name) {
+        if (name.equals("first")) {
+            return (searchPool, random) -> new FirstPlayableStrategy();
+        }
+        if (name.startsWith("ismcts:")) {
+            long budget = Long.parseLong(name.substring("ismcts:".length()));
+            return (searchPool, random) -> new IsmctsStrategy(budget, searchPool, 1, random);
+        }
+        throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+
+    /**
+     * Runs a tournament from the command line.
+     *
+     * @param args {@code --games=N --a=STRATEGY --b=STRATEGY --threads=T --seed=S}, all optional
+     * @throws InterruptedException if interrupted while waiting for the games
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long games = 10_000;
+        String a = "first";
+        String b = "first";
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = new SplittableRandom().nextLong();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                usage(arg);
+                return;
+            }
+            switch (option[0]) {
+                case "--games":
+                    games = Long.parseLong(option[1]);
+                    break;
+                case "--a":
+                    a = option[1];
+                    break;
+                case "--b":
+                    b = option[1];
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(option[1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(option[1]);
+                    break;
+                default:
+                    usage(arg);
+                    return;
+            }
+        }
+        System.out.println("Playing " + games + " games of " + a + " (A) against " + b + " (B) on "
+                + threads + " threads with seed " + seed + "...");
+        TournamentResult result = new TournamentSimulator(parseStrategy(a), parseStrategy(b), threads, seed)
+                .run(games);
+        System.out.println(result);
+    }
+
+    private static void usage(String badArgument) {
+        System.err.println("Unknown argument: " + badArgument);
+        System.err.println("Usage: TournamentSimulator [--games=N] [--a=first|ismcts:MS] [--b=first|ismcts:MS] [--threads=T]"
+                + " [--seed=S]");
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.eiscuno.timer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A task scheduled on a {@link TimerWheel}, to cancel it or ask what became of it.
+ * <p>
+ * A timeout goes from pending to either expired or cancelled, exactly once, so a task
+ * that lost the race against {@link #cancel()} never runs and a cancel that lost the race
+ * against the timer returns false.
+ * </p>
+ */
+public final class Timeout {
+
+    static final int PENDING = 0;
+    static final int EXPIRED = 1;
+    static final int CANCELLED = 2;
+
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private final TimerWheel timer;
+    private final Runnable task;
+    private final Executor executor;
+    /** When the task is due, in nanoseconds since the start of the timer. */
+    final long deadline;
+    volatile int state;
+
+    // Owned by the timer thread.
+    long remainingRounds;
+    Timeout prev;
+    Timeout next;
+    TimerWheel.Bucket bucket;
+
+    Timeout(TimerWheel timer, Runnable task, Executor executor, long deadline) {
+        this.timer = timer;
+        this.task = task;
+        this.executor = executor;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Prevents the task from running, if it has not been handed to its executor yet.
+     *
+     * @return true if the task will never run, false if it has expired or was cancelled
+     *         already
+     */
+    public boolean cancel() {
+        if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+            return false;
+        }
+        timer.settled();
+        timer.unlink(this);
+        return true;
+    }
+
+    /**
+     * @return true if the timeout was cancelled before it expired
+     */
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    /**
+     * @return true if the task was handed to its executor
+     */
+    public boolean isExpired() {
+        return state == EXPIRED;
+    }
+
+    /**
+     * Hands the task to its executor unless the timeout was cancelled.
+     */
+    void expire() {
+        if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+            return;
+        }
+        timer.settled();
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            System.err.println("A timer task could not be run.");
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package org.example.eiscuno.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A hashed timer wheel: schedules many delayed tasks, such as UNO penalty windows and
+ * machine think delays, with one thread for the whole JVM.
+ * <p>
+ * Time is cut into ticks of a fixed length and the wheel has one bucket per tick, a
+ * doubly linked list of the timeouts due on that tick of some turn of the wheel. Once per
+ * tick the timer thread moves the newly scheduled timeouts into their buckets, unlinks
+ * the cancelled ones and expires the bucket of the tick. Scheduling and cancelling only
+ * push onto a lock-free queue, so both cost O(1) whatever the number of pending timeouts,
+ * and a timeout fires between 0 and one tick late. Expired tasks are handed to the
+ * executor given when scheduling them, never run on the timer thread, so a slow task
+ * cannot delay the others.
+ * </p>
+ */
+public final class TimerWheel implements AutoCloseable {
+
+    private static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    /** The most new timeouts moved into the wheel per tick, so a burst cannot stall a tick. */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private static final class Holder {
+        private static final TimerWheel INSTANCE = new TimerWheel(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS,
+                DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @return the timer shared by the whole JVM, with 10 ms ticks, created on the first call
+     */
+    public static TimerWheel shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates a timer and starts its daemon thread.
+     *
+     * @param tick      the length of a tick, the precision of the timer
+     * @param unit      the unit of the tick
+     * @param wheelSize the number of buckets, rounded up to a power of two
+     */
+    public TimerWheel(long tick, TimeUnit unit, int wheelSize) {
+        if (tick <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Invalid timer wheel " + tick + " " + unit + " x " + wheelSize);
+        }
+        this.tickNanos = unit.toNanos(tick);
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.wheel = new Bucket[Math.max(1, size)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, "uno-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Runs a task on an executor after a delay. A task with no delay is handed to the
+     * executor right away and can no longer be cancelled.
+     *
+     * @param task     the task
+     * @param delay    the delay
+     * @param unit     the unit of the delay
+     * @param executor where the task runs, e.g. {@code Platform::runLater}
+     * @return the handle to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit, Executor executor) {
+        if (!running) {
+            throw new IllegalStateException("The timer is stopped");
+        }
+        Timeout timeout = new Timeout(this, task, executor, System.nanoTime() - startTime + unit.toNanos(delay));
+        pending.incrementAndGet();
+        if (delay <= 0) {
+            timeout.expire();
+        } else {
+            scheduled.offer(timeout);
+        }
+        return timeout;
+    }
+
+    /**
+     * @return the number of timeouts that have neither fired nor been cancelled
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long deadline = waitForTick(tick);
+            if (deadline < 0) {
+                break;
+            }
+            unlinkCancelled();
+            transferScheduled(tick);
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * Sleeps until the end of a tick.
+     *
+     * @return the time of the end of the tick, relative to the start of the timer, or -1
+     *         if the timer was stopped
+     */
+    private long waitForTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0) {
+                return deadline;
+            }
+            try {
+                Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleepNanos + 999_999));
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferScheduled(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = scheduled.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state != Timeout.PENDING) {
+                continue;
+            }
+            long dueTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (dueTick - tick) / wheel.length;
+            // A timeout already due goes into the current bucket and expires on this tick.
+            wheel[(int) (Math.max(dueTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void unlinkCancelled() {
+        for (Timeout timeout = cancelled.poll(); timeout != null; timeout = cancelled.poll()) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Stops the timer thread. Pending timeouts never fire.
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The timeouts of one tick of the wheel. Only used by the timer thread.
+     */
+    static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.state != Timeout.PENDING) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                } else if (timeout.deadline <= deadline) {
+                    remove(timeout);
+                    timeout.expire();
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    /**
+     * Counts a timeout that left the pending state. Called once per timeout.
+     */
+    void settled() {
+        pending.decrementAndGet();
+    }
+
+    /**
+     * Queues a cancelled timeout to be unlinked from its bucket on the next tick.
+     */
+    void unlink(Timeout timeout) {
+        cancelled.offer(timeout);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.eiscuno.view;
+
+import javafx.application.Platform;
+import org.example.eiscuno.metrics.GameMetrics;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks on the JavaFX application thread and records how long they waited in its
+ * queue in {@link GameMetrics#FX_QUEUE_LAG}.
+ * <p>
+ * This is the executor the desktop game hands to the model, e.g. to deliver game events
+ * or the machine's moves, so the model and the metrics never depend on JavaFX.
+ * </p>
+ */
+public final class FxExecutor implements Executor {
+
+    private FxExecutor() {
+    }
+
+    /**
+     * Retrieves the shared instance of the executor.
+     *
+     * @return the executor of the JavaFX application thread
+     */
+    public static FxExecutor getInstance() {
+        return FxExecutorHolder.INSTANCE;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long queued = System.nanoTime();
+        Platform.runLater(() -> {
+            GameMetrics.FX_QUEUE_LAG.recordSince(queued);
+            task.run();
+        });
+    }
+
+    /**
+     * Holder class for the shared instance, initialized on first use.
+     */
+    private static class FxExecutorHolder {
+        private static final FxExecutor INSTANCE = new FxExecutor();
+    }
+}
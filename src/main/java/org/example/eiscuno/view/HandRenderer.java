@@ -0,0 +1,109 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import org.example.eiscuno.model.card.CardImageCache;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shows the backs of an opponent's hand in a {@link GridPane}, touching only the cells
+ * that changed. The hand of the human is shown by the {@link VirtualHandView}.
+ * <p>
+ * The renderer keeps one pooled {@link ImageView} per column it has ever shown. Showing
+ * a new hand size only reveals the missing cells or hides the extra ones rather than
+ * removing them, and nodes are added to the grid once, so drawing and playing cause no
+ * scene-graph churn and no garbage.
+ * Must be used on the JavaFX application thread.
+ * </p>
+ */
+public final class HandRenderer {
+
+    private final GridPane grid;
+    private final double fitWidth;
+    private final double fitHeight;
+    private final double offsetY;
+    private final List<Slot> slots = new ArrayList<>();
+    private int visibleCount;
+
+    /**
+     * @param grid      the grid showing the cards, one per column of row 0
+     * @param fitWidth  the width of a card
+     * @param fitHeight the height of a card
+     * @param offsetY   the vertical offset of each card in its cell
+     */
+    public HandRenderer(GridPane grid, double fitWidth, double fitHeight, double offsetY) {
+        this.grid = grid;
+        this.fitWidth = fitWidth;
+        this.fitHeight = fitHeight;
+        this.offsetY = offsetY;
+        grid.getChildren().clear();
+    }
+
+    /**
+     * Shows a number of card backs, as for the hand of an opponent.
+     *
+     * @param count the number of cards
+     */
+    public void showBacks(int count) {
+        for (int i = 0; i < count; i++) {
+            slot(i).show(EISCUnoEnum.CARD_UNO);
+        }
+        hideFrom(count);
+    }
+
+    /**
+     * @return the number of nodes created so far, which is the widest hand ever shown
+     */
+    public int getPoolSize() {
+        return slots.size();
+    }
+
+    private Slot slot(int column) {
+        while (slots.size() <= column) {
+            Slot slot = new Slot();
+            grid.add(slot.view, slots.size(), 0);
+            slots.add(slot);
+        }
+        return slots.get(column);
+    }
+
+    private void hideFrom(int count) {
+        for (int i = count; i < visibleCount; i++) {
+            slots.get(i).hide();
+        }
+        visibleCount = count;
+    }
+
+    /**
+     * A pooled cell and what it currently shows.
+     */
+    private final class Slot {
+        private final ImageView view = new ImageView();
+        private EISCUnoEnum face;
+
+        private Slot() {
+            view.setFitWidth(fitWidth);
+            view.setFitHeight(fitHeight);
+            view.setY(offsetY);
+        }
+
+        private void show(EISCUnoEnum face) {
+            if (this.face != face) {
+                Image image = CardImageCache.getInstance().get(face);
+                view.setImage(image);
+                this.face = face;
+            }
+            if (!view.isVisible()) {
+                view.setVisible(true);
+            }
+        }
+
+        private void hide() {
+            view.setVisible(false);
+        }
+    }
+}
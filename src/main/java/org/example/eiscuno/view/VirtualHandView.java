@@ -0,0 +1,204 @@
+package org.example.eiscuno.view;
+
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardImageCache;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A horizontally scrolling hand that creates nodes only for the cards in view.
+ * <p>
+ * The view reads the cards straight from the player's hand and lays them out on a strip
+ * of fixed-width cells, scrolled by a pixel offset. Only the cells that intersect the
+ * viewport are backed by an {@link ImageView}; the card at index {@code i} is shown by
+ * node {@code i % poolSize}, so while scrolling a node keeps its card until it leaves the
+ * view and is reused for the card entering on the other side. A node changes image only
+ * when its face changes, and layout moves nodes without allocating, so a hand of any
+ * size scrolls at the cost of the handful of visible cards.
+ * </p>
+ * <p>
+ * The hand scrolls with the mouse wheel or trackpad, and by whole cards with
+ * {@link #scrollCards(int)}, animated. Call {@link #refresh()} after the hand changed.
+ * Must be used on the JavaFX application thread.
+ * </p>
+ */
+public class VirtualHandView extends Region {
+
+    private static final double CARD_WIDTH = 70;
+    private static final double CARD_HEIGHT = 90;
+    private static final double CELL_WIDTH = 100;
+    private static final int PREF_VISIBLE_CARDS = 4;
+    private static final Duration SCROLL_DURATION = Duration.millis(150);
+
+    private final DoubleProperty offset = new SimpleDoubleProperty(this, "offset");
+    private final Rectangle clip = new Rectangle();
+    private List<Card> cards = Collections.emptyList();
+    private Consumer<Card> onCardClicked;
+    private Timeline scrollAnimation;
+
+    private ImageView[] pool = new ImageView[0];
+    private Card[] boundCards = new Card[0];
+    private EISCUnoEnum[] boundFaces = new EISCUnoEnum[0];
+
+    /**
+     * Creates an empty hand.
+     */
+    public VirtualHandView() {
+        setClip(clip);
+        offset.addListener(observable -> requestLayout());
+        setOnScroll(event -> {
+            double delta = event.getDeltaX() != 0 ? event.getDeltaX() : event.getDeltaY();
+            stopAnimation();
+            setOffset(offset.get() - delta);
+            event.consume();
+        });
+    }
+
+    /**
+     * Shows a hand. The list is read again on every layout, so it may be the live hand.
+     *
+     * @param cards the cards to show
+     */
+    public void setCards(List<Card> cards) {
+        this.cards = cards;
+        refresh();
+    }
+
+    /**
+     * Sets what happens when a card is clicked.
+     *
+     * @param onCardClicked receives the clicked card
+     */
+    public void setOnCardClicked(Consumer<Card> onCardClicked) {
+        this.onCardClicked = onCardClicked;
+    }
+
+    /**
+     * Redraws the hand after cards were added or removed.
+     */
+    public void refresh() {
+        requestLayout();
+    }
+
+    /**
+     * Scrolls smoothly by a number of cards.
+     *
+     * @param count the number of cards, negative to scroll back
+     */
+    public void scrollCards(int count) {
+        double target = clampOffset(Math.round(offset.get() / CELL_WIDTH + count) * CELL_WIDTH);
+        stopAnimation();
+        scrollAnimation = new Timeline(new KeyFrame(SCROLL_DURATION,
+                new KeyValue(offset, target, Interpolator.EASE_BOTH)));
+        scrollAnimation.play();
+    }
+
+    /**
+     * @return the number of nodes created, which only depends on the widest viewport
+     */
+    public int getPoolSize() {
+        return pool.length;
+    }
+
+    private void stopAnimation() {
+        if (scrollAnimation != null) {
+            scrollAnimation.stop();
+            scrollAnimation = null;
+        }
+    }
+
+    private void setOffset(double value) {
+        offset.set(clampOffset(value));
+    }
+
+    private double clampOffset(double value) {
+        double max = Math.max(0, cards.size() * CELL_WIDTH - getWidth());
+        return Math.max(0, Math.min(max, value));
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return snappedLeftInset() + PREF_VISIBLE_CARDS * CELL_WIDTH + snappedRightInset();
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return snappedTopInset() + CARD_HEIGHT + snappedBottomInset();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double width = getWidth();
+        double height = getHeight();
+        clip.setWidth(width);
+        clip.setHeight(height);
+
+        ensurePool((int) Math.ceil(width / CELL_WIDTH) + 1);
+        // The hand may have shrunk since the last scroll.
+        double scroll = clampOffset(offset.get());
+        int size = cards.size();
+        int first = (int) (scroll / CELL_WIDTH);
+        int last = Math.min(size, first + pool.length);
+        double y = (height - CARD_HEIGHT) / 2;
+
+        for (int slot = 0; slot < pool.length; slot++) {
+            boundCards[slot] = null;
+        }
+        for (int index = first; index < last; index++) {
+            int slot = index % pool.length;
+            Card card = cards.get(index);
+            ImageView view = pool[slot];
+            boundCards[slot] = card;
+            if (boundFaces[slot] != card.getFace()) {
+                view.setImage(CardImageCache.getInstance().get(card.getFace()));
+                boundFaces[slot] = card.getFace();
+            }
+            view.relocate(index * CELL_WIDTH - scroll + (CELL_WIDTH - CARD_WIDTH) / 2, y);
+        }
+        for (int slot = 0; slot < pool.length; slot++) {
+            pool[slot].setVisible(boundCards[slot] != null);
+        }
+    }
+
+    /**
+     * Grows the node pool to cover the viewport; it never shrinks.
+     */
+    private void ensurePool(int size) {
+        if (size <= pool.length) {
+            return;
+        }
+        ImageView[] grown = Arrays.copyOf(pool, size);
+        boundCards = Arrays.copyOf(boundCards, size);
+        boundFaces = Arrays.copyOf(boundFaces, size);
+        for (int slot = pool.length; slot < size; slot++) {
+            ImageView view = new ImageView();
+            view.setFitWidth(CARD_WIDTH);
+            view.setFitHeight(CARD_HEIGHT);
+            view.setManaged(false);
+            int clicked = slot;
+            view.setOnMouseClicked(event -> {
+                Card card = boundCards[clicked];
+                if (card != null && onCardClicked != null) {
+                    onCardClicked.accept(card);
+                }
+            });
+            grown[slot] = view;
+            getChildren().add(view);
+        }
+        pool = grown;
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.eiscuno.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Flight Recorder events of {@code GameUno}. Each test records the
+ * game actions into a file and reads the events back.
+ */
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path directory;
+
+    private Player humanPlayer;
+    private Player machinePlayer;
+    private GameUno gameUno;
+
+    /**
+     * Starts every test with a blue 5 on the table and a red 5 in the human hand.
+     */
+    @BeforeEach
+    void setUp() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        Table table = new Table();
+        gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), table);
+        gameUno.setSessionId(42);
+        table.addCardOnTheTable(Card.of(EISCUnoEnum.BLUE_5));
+        humanPlayer.addCard(Card.of(EISCUnoEnum.RED_5));
+        humanPlayer.addCard(Card.of(EISCUnoEnum.RED_7));
+    }
+
+    private List<RecordedEvent> record(Runnable actions) throws IOException {
+        Path file = directory.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CardPlayedEvent.class);
+            recording.enable(CardsDrawnEvent.class);
+            recording.enable(UnoCalledEvent.class);
+            recording.enable(GameStartedEvent.class);
+            recording.start();
+            actions.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("org.example.eiscuno."))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Tests that playing, drawing and calling UNO each write one event with the session,
+     * the card and the hand sizes.
+     */
+    @Test
+    void testGameActionsAreRecorded() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            gameUno.playCardFromHand(humanPlayer, 0);
+            gameUno.callUno(humanPlayer);
+            gameUno.eatCard(machinePlayer, 2);
+        });
+
+        assertEquals(3, events.size());
+        RecordedEvent played = events.get(0);
+        assertEquals("org.example.eiscuno.CardPlayed", played.getEventType().getName());
+        assertEquals(42, played.getLong("sessionId"));
+        assertEquals(0, played.getInt("seat"));
+        assertEquals("RED_5", played.getString("card"));
+        assertEquals(1, played.getInt("handSize"));
+
+        RecordedEvent called = events.get(1);
+        assertEquals("org.example.eiscuno.UnoCalled", called.getEventType().getName());
+        assertEquals(-1, called.getInt("penalizedSeat"));
+
+        RecordedEvent drawn = events.get(2);
+        assertEquals("org.example.eiscuno.CardsDrawn", drawn.getEventType().getName());
+        assertEquals(1, drawn.getInt("seat"));
+        assertEquals(2, drawn.getInt("drawn"));
+        assertEquals(2, drawn.getInt("handSize"));
+        assertFalse(drawn.getDuration().isNegative());
+    }
+
+    /**
+     * Tests that a penalty for a missed UNO names the penalized seat.
+     */
+    @Test
+    void testUnoPenaltyNamesThePenalizedSeat() throws IOException {
+        List<RecordedEvent> events = record(() -> gameUno.haveSungOne("HUMAN_PLAYER"));
+
+        RecordedEvent called = events.stream()
+                .filter(event -> event.getEventType().getName().equals("org.example.eiscuno.UnoCalled"))
+                .findFirst().orElseThrow();
+        assertEquals(0, called.getInt("seat"));
+        assertEquals(1, called.getInt("penalizedSeat"));
+    }
+
+    /**
+     * Tests that the start of a session records the seed that replays it.
+     */
+    @Test
+    void testGameStartRecordsTheSeed() throws IOException {
+        List<RecordedEvent> events = record(() -> new GameStartedEvent().record(42, -7L, true));
+
+        assertEquals(1, events.size());
+        RecordedEvent started = events.get(0);
+        assertEquals("org.example.eiscuno.GameStarted", started.getEventType().getName());
+        assertEquals(42, started.getLong("sessionId"));
+        assertEquals(-7L, started.getLong("seed"));
+        assertTrue(started.getBoolean("resumed"));
+    }
+}
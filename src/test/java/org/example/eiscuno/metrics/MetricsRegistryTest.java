@@ -0,0 +1,85 @@
+package org.example.eiscuno.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code MetricsRegistry} class, its metrics and its HTTP endpoint.
+ */
+class MetricsRegistryTest {
+
+    private MetricsRegistry registry;
+
+    /**
+     * Starts every test with an empty registry.
+     */
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    /**
+     * Tests that a name is registered once and keeps its type.
+     */
+    @Test
+    void testSameNameReturnsSameMetric() {
+        Counter moves = registry.counter("uno_moves_total", "Moves.");
+        moves.add(3);
+
+        assertSame(moves, registry.counter("uno_moves_total", "Moves."));
+        assertEquals(3, registry.counter("uno_moves_total", "Moves.").get());
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("uno_moves_total", "Moves."));
+    }
+
+    /**
+     * Tests the Prometheus text of a histogram: cumulative buckets, sum and count.
+     */
+    @Test
+    void testHistogramIsWrittenWithCumulativeBuckets() {
+        Histogram cards = registry.histogram("uno_cards", "Cards.", 1, 1, 4);
+        cards.record(0);
+        cards.record(2);
+        cards.record(3);
+        cards.record(9);
+
+        String text = registry.scrape();
+
+        assertTrue(text.contains("# TYPE uno_cards histogram\n"));
+        assertTrue(text.contains("uno_cards_bucket{le=\"1.0\"} 1\n"));
+        assertTrue(text.contains("uno_cards_bucket{le=\"4.0\"} 3\n"));
+        assertTrue(text.contains("uno_cards_bucket{le=\"+Inf\"} 4\n"));
+        assertTrue(text.contains("uno_cards_sum 14.0\n"));
+        assertTrue(text.contains("uno_cards_count 4\n"));
+    }
+
+    /**
+     * Tests that the endpoint serves the scrape of the registry.
+     */
+    @Test
+    void testServerServesScrape() throws IOException {
+        registry.gauge("uno_active_sessions", "Sessions.").set(7);
+        registry.timer("uno_turn_duration_seconds", "Turns.").record(2_000_000);
+
+        try (MetricsServer server = new MetricsServer(registry, 0)) {
+            URL url = new URL("http://localhost:" + server.getPort() + "/metrics");
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            assertEquals(200, connection.getResponseCode());
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            assertTrue(body.contains("uno_active_sessions 7\n"));
+            assertTrue(body.contains("uno_turn_duration_seconds_bucket{le=\"0.005\"} 1\n"));
+            assertTrue(body.contains("uno_turn_duration_seconds_sum 0.002\n"));
+        }
+    }
+}
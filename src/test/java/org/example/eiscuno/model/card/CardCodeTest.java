@@ -0,0 +1,68 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code CardCode} class. Card codes are plain integers, so no JavaFX
+ * environment is needed.
+ */
+class CardCodeTest {
+
+    /**
+     * Tests that every card face of the enum gets its own code, and that the code maps back to it.
+     */
+    @Test
+    void testEveryCardFaceHasAUniqueCode() {
+        boolean[] seen = new boolean[CardCode.FACE_COUNT];
+        int faces = 0;
+        for (EISCUnoEnum cardEnum : EISCUnoEnum.values()) {
+            byte code = CardCode.of(cardEnum);
+            if (code == CardCode.NONE) {
+                continue;
+            }
+            assertFalse(seen[code], "Duplicated code for " + cardEnum);
+            seen[code] = true;
+            assertEquals(cardEnum, CardCode.faceOf(code));
+            faces++;
+        }
+        assertEquals(CardCode.FACE_COUNT, faces);
+        assertEquals(CardCode.NONE, CardCode.of(EISCUnoEnum.CARD_UNO));
+    }
+
+    /**
+     * Tests that color and rank are unpacked from the code of some known faces.
+     */
+    @Test
+    void testColorAndRankOfKnownFaces() {
+        byte redSeven = CardCode.of(EISCUnoEnum.RED_7);
+        assertEquals(CardCode.RED, CardCode.colorOf(redSeven));
+        assertEquals(7, CardCode.rankOf(redSeven));
+
+        byte blueDrawTwo = CardCode.of(EISCUnoEnum.TWO_WILD_DRAW_BLUE);
+        assertEquals(CardCode.BLUE, CardCode.colorOf(blueDrawTwo));
+        assertEquals(CardCode.DRAW_TWO, CardCode.rankOf(blueDrawTwo));
+
+        byte yellowReverse = CardCode.of(EISCUnoEnum.RESERVE_YELLOW);
+        assertEquals(CardCode.REVERSE, CardCode.rankOf(yellowReverse));
+
+        byte drawFour = CardCode.of(EISCUnoEnum.FOUR_WILD_DRAW);
+        assertTrue(CardCode.isWild(drawFour));
+        assertEquals(CardCode.WILD_DRAW_FOUR, CardCode.rankOf(drawFour));
+        assertEquals("+4", CardCode.valueName(CardCode.rankOf(drawFour)));
+    }
+
+    /**
+     * Tests that the color and rank masks contain exactly the faces of that color or rank.
+     */
+    @Test
+    void testMasks() {
+        assertEquals(13, Long.bitCount(CardCode.colorMask(CardCode.GREEN)));
+        assertEquals(2, Long.bitCount(CardCode.colorMask(CardCode.WILD)));
+        assertEquals(4, Long.bitCount(CardCode.rankMask(CardCode.SKIP)));
+        assertEquals(0L, CardCode.colorMask(CardCode.NO_COLOR));
+        assertNotEquals(0L, CardCode.rankMask(5) & (1L << CardCode.of(EISCUnoEnum.YELLOW_5)));
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the canonical cards of the {@code Card} class.
+ */
+class CardTest {
+
+    /**
+     * Tests that the table holds one card per physical card of a full deck, each with its
+     * own id.
+     */
+    @Test
+    void testOneInstancePerPhysicalCard() {
+        assertEquals(102, Card.COUNT);
+        for (int id = 0; id < Card.COUNT; id++) {
+            assertEquals(id, Card.byId(id).getId());
+        }
+        assertSame(Card.of(EISCUnoEnum.RED_5), Card.of(EISCUnoEnum.RED_5, 0));
+        assertNotSame(Card.of(EISCUnoEnum.RED_5, 0), Card.of(EISCUnoEnum.RED_5, 1));
+        assertEquals(1, Card.copiesOf(EISCUnoEnum.RED_0));
+        assertEquals(1, Card.copiesOf(EISCUnoEnum.WILD));
+        assertEquals(0, Card.copiesOf(EISCUnoEnum.CARD_UNO));
+    }
+
+    /**
+     * Tests that faces that are not cards and missing copies are rejected.
+     */
+    @Test
+    void testUnknownCardsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Card.of(EISCUnoEnum.CARD_UNO));
+        assertThrows(IllegalArgumentException.class, () -> Card.of(EISCUnoEnum.FOUR_WILD_DRAW, 1));
+    }
+
+    /**
+     * Tests that a deserialized card is the canonical instance.
+     */
+    @Test
+    void testDeserializedCardIsCanonical() throws IOException, ClassNotFoundException {
+        Card card = Card.of(EISCUnoEnum.SKIP_BLUE, 1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(card);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(card, in.readObject());
+        }
+    }
+}
@@ -2,24 +2,20 @@ package org.example.eiscuno.model.deck;
 
 import org.example.eiscuno.model.card.Card;
 import org.junit.jupiter.api.Test;
-import org.testfx.framework.junit5.ApplicationTest;
-import javafx.stage.Stage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Unit tests for the Deck class, using TestFX.
+ * Unit tests for the Deck class. Cards hold no images, so no JavaFX
+ * environment is needed.
  */
-class DeckTest extends ApplicationTest {
-
-    /**
-     * The start() method from TestFX initializes the JavaFX environment.
-     * It can be empty if you don't need to initialize anything specific here.
-     */
-    @Override
-    public void start(Stage stage) {
-        // No specific initialization is needed here, but the method is mandatory.
-    }
+class DeckTest {
 
     /**
      * Tests that the deck is initialized with the correct number of cards (102).
@@ -63,4 +59,44 @@ class DeckTest extends ApplicationTest {
         
         assertNotNull(card);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the same seed deals the same deck, reshuffles included, and that
+     * another seed deals another one.
+     */
+    @Test
+    void testSameSeedGivesSameDeck() {
+        Deck first = new Deck(new SplittableRandom(7));
+        Deck second = new Deck(new SplittableRandom(7));
+
+        assertArrayEquals(first.toCardCodes(), second.toCardCodes());
+        first.shuffle();
+        second.shuffle();
+        assertArrayEquals(first.toCardCodes(), second.toCardCodes());
+        assertFalse(Arrays.equals(first.toCardCodes(),
+                new Deck(new SplittableRandom(8)).toCardCodes()));
+    }
+
+    /**
+     * Tests that a reset deals the same card instances again, in an order that only
+     * depends on the seed.
+     */
+    @Test
+    void testResetReusesCardsAndFollowsSeed() {
+        Deck deck = new Deck(new SplittableRandom(1));
+        Set<Card> cards = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (!deck.isEmpty()) {
+            cards.add(deck.takeCard());
+        }
+
+        deck.reset(7);
+
+        assertEquals(102, deck.size());
+        Deck other = new Deck(new SplittableRandom(2));
+        other.reset(7);
+        assertArrayEquals(other.toCardCodes(), deck.toCardCodes());
+        while (!deck.isEmpty()) {
+            assertTrue(cards.contains(deck.takeCard()));
+        }
+    }
+}
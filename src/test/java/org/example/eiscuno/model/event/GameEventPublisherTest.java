@@ -0,0 +1,113 @@
+package org.example.eiscuno.model.event;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code GameEventPublisher} class and the events of {@code GameUno}.
+ * Deliveries are queued on a test executor and run explicitly.
+ */
+class GameEventPublisherTest {
+
+    private Player humanPlayer;
+    private Player machinePlayer;
+    private GameUno gameUno;
+    private Queue<Runnable> deliveries;
+    private List<List<GameEvent>> batches;
+
+    /**
+     * Starts every test with a blue 5 on the table, empty hands and one subscriber.
+     */
+    @BeforeEach
+    void setUp() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        Table table = new Table();
+        gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), table);
+        table.addCardOnTheTable(Card.of(EISCUnoEnum.BLUE_5));
+        deliveries = new ArrayDeque<>();
+        batches = new ArrayList<>();
+        gameUno.getEvents().subscribe(batches::add, deliveries::add);
+    }
+
+    private void deliver() {
+        while (!deliveries.isEmpty()) {
+            deliveries.poll().run();
+        }
+    }
+
+    /**
+     * Tests that the changes of a move reach the subscriber in order, in a single batch.
+     */
+    @Test
+    void testEventsOfAMoveAreBatchedInOrder() {
+        humanPlayer.addCard(Card.of(EISCUnoEnum.WILD));
+        humanPlayer.addCard(Card.of(EISCUnoEnum.RED_7));
+
+        gameUno.playCardFromHand(humanPlayer, 0);
+        gameUno.setActiveColor(CardCode.GREEN);
+        gameUno.eatCard(machinePlayer, 2);
+        gameUno.setCurrentSeat(1);
+
+        assertEquals(1, deliveries.size());
+        deliver();
+
+        assertEquals(1, batches.size());
+        List<GameEvent> events = batches.get(0);
+        assertEquals(4, events.size());
+        assertEquals(GameEventType.CARD_PLAYED, events.get(0).getType());
+        assertEquals(CardCode.of(CardCode.WILD, CardCode.WILD_RANK), events.get(0).getCard());
+        assertEquals(1, events.get(0).getHandSize());
+        assertEquals(CardCode.GREEN, events.get(1).getColor());
+        assertEquals(GameEventType.CARDS_DRAWN, events.get(2).getType());
+        assertEquals(2, events.get(2).getCount());
+        assertEquals(1, events.get(3).getSeat());
+    }
+
+    /**
+     * Tests that playing the last card publishes the end of the game.
+     */
+    @Test
+    void testLastCardPublishesGameOver() {
+        humanPlayer.addCard(Card.of(EISCUnoEnum.RED_5));
+
+        gameUno.playCardFromHand(humanPlayer, 0);
+        deliver();
+
+        List<GameEvent> events = batches.get(0);
+        GameEvent last = events.get(events.size() - 1);
+        assertEquals(GameEventType.GAME_OVER, last.getType());
+        assertEquals(0, last.getSeat());
+    }
+
+    /**
+     * Tests that a closed subscription receives nothing more.
+     */
+    @Test
+    void testClosedSubscriptionStopsDeliveries() {
+        List<List<GameEvent>> other = new ArrayList<>();
+        GameEventPublisher.Subscription subscription = gameUno.getEvents().subscribe(other::add, Runnable::run);
+        gameUno.reverseDirection();
+        subscription.close();
+        gameUno.reverseDirection();
+        deliver();
+
+        assertEquals(1, other.size());
+        assertEquals(1, other.get(0).size());
+        assertEquals(2, batches.get(0).size());
+    }
+}
@@ -4,18 +4,17 @@ import org.example.eiscuno.model.card.Card;
 import org.example.eiscuno.model.deck.Deck;
 import org.example.eiscuno.model.player.Player;
 import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.testfx.framework.junit5.ApplicationTest;
-import javafx.stage.Stage;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Unit tests for the {@code GameUno} class. These tests use TestFX for JavaFX environment initialization
- * but focus on the game logic rather than UI interactions.
+ * Unit tests for the {@code GameUno} class. Cards hold no images, so these
+ * tests run on a plain JVM without a JavaFX environment.
  */
-class GameUnoTest extends ApplicationTest {
+class GameUnoTest {
 
     private Player humanPlayer;
     private Player machinePlayer;
@@ -24,24 +23,15 @@ class GameUnoTest extends ApplicationTest {
     private GameUno gameUno;
     private Card testCard;
 
-    /**
-     * The {@code start()} method from TestFX. This is where the JavaFX environment is set up.
-     * We initialize the deck and a test card here.
-     *
-     * @param stage The primary stage for this application.
-     */
-    @Override
-    public void start(Stage stage) {
-        deck = new Deck();
-        testCard = new Card("/org/example/eiscuno/cards-uno/5_blue.png", "5", "BLUE", "NUMBER");
-    }
-
     /**
      * Sets up the testing environment before each test method.
-     * Initializes human and machine players, the table, and a new {@code GameUno} instance.
+     * Initializes the deck, a test card, human and machine players, the table, and a new
+     * {@code GameUno} instance.
      */
     @BeforeEach
     void setUp() {
+        deck = new Deck();
+        testCard = Card.of(EISCUnoEnum.BLUE_5);
         humanPlayer = new Player("HUMAN_PLAYER");
         machinePlayer = new Player("MACHINE_PLAYER");
         table = new Table();
@@ -77,7 +67,7 @@ class GameUnoTest extends ApplicationTest {
     void testIsGameOverWhenPlayerHasNoCards() {
         gameUno.startGame();
         assertFalse(gameUno.isGameOver()); // Game should not be over at the start
-        gameUno.getHumanPlayer().getCardsPlayer().clear(); // Simulate a player running out of cards
+        gameUno.getHumanPlayer().removeAllCards(); // Simulate a player running out of cards
         assertTrue(gameUno.isGameOver()); // Game should now be over
     }
 
@@ -89,4 +79,93 @@ class GameUnoTest extends ApplicationTest {
         gameUno.eatCard(humanPlayer, 3);
         assertEquals(3, humanPlayer.getCardsPlayer().size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that when the deck runs dry the discard pile, except its top card, is shuffled
+     * back into the deck, and that the draw is counted as one from an empty deck.
+     */
+    @Test
+    void testEmptyDeckRecyclesDiscardPile() {
+        gameUno.eatCard(humanPlayer, 90);
+        while (!deck.isEmpty()) {
+            table.addCardOnTheTable(deck.takeCard());
+        }
+        Card top = table.getCurrentCardOnTheTable();
+        int discards = table.getCardCount() - 1;
+
+        gameUno.eatCard(machinePlayer, 3);
+
+        assertEquals(3, machinePlayer.getCardsPlayer().size());
+        assertEquals(1, gameUno.getEmptyDeckDraws());
+        assertEquals(discards - 3, deck.size());
+        assertEquals(1, table.getCardCount());
+        assertSame(top, table.getCurrentCardOnTheTable());
+    }
+
+    /**
+     * Tests that draws are only skipped when both the deck and the discard pile are exhausted,
+     * and that the UNO penalty no longer fails on an empty deck. Both forced draws count as
+     * draws from an empty deck.
+     */
+    @Test
+    void testDrawFromExhaustedDeckIsSkipped() {
+        gameUno.eatCard(humanPlayer, 101);
+        table.addCardOnTheTable(deck.takeCard());
+
+        gameUno.eatCard(machinePlayer, 2);
+        gameUno.haveSungOne("HUMAN_PLAYER");
+
+        assertEquals(0, machinePlayer.getCardsPlayer().size());
+        assertEquals(101, humanPlayer.getCardsPlayer().size());
+        assertEquals(2, gameUno.getEmptyDeckDraws());
+    }
+
+    /**
+     * Tests that the seats form a ring that is walked the other way after a reverse.
+     */
+    @Test
+    void testSeatsFormRingInBothDirections() {
+        Player third = new Player("MACHINE_PLAYER");
+        gameUno = new GameUno(new Player[]{humanPlayer, machinePlayer, third}, deck, table);
+
+        assertEquals(1, gameUno.nextSeat(0));
+        assertEquals(0, gameUno.nextSeat(2));
+        assertSame(third, gameUno.getNextPlayer(machinePlayer));
+
+        gameUno.reverseDirection();
+
+        assertEquals(2, gameUno.nextSeat(0));
+        assertEquals(1, gameUno.seatAfter(0, 2));
+        assertSame(humanPlayer, gameUno.getNextPlayer(machinePlayer));
+    }
+
+    /**
+     * Tests that a game needs between two and ten players.
+     */
+    @Test
+    void testSeatCountIsValidated() {
+        assertThrows(IllegalArgumentException.class, () -> new GameUno(new Player[]{humanPlayer}, deck, table));
+        assertThrows(IllegalArgumentException.class, () -> new GameUno(new Player[GameUno.MAX_SEATS + 1], deck, table));
+    }
+
+    /**
+     * Tests that a copy holds the same cards and turn, and does not change with the game.
+     */
+    @Test
+    void testCopyIsDetachedFromGame() {
+        gameUno.startGame();
+        table.addCardOnTheTable(deck.takeCard());
+        gameUno.setCurrentSeat(1);
+
+        GameUno copy = gameUno.copy();
+        gameUno.eatCard(humanPlayer, 2);
+        gameUno.playCardFromHand(machinePlayer, 0);
+
+        assertEquals(1, copy.getCurrentSeat());
+        assertEquals(5, copy.getPlayer(0).getCardsPlayer().size());
+        assertEquals(5, copy.getPlayer(1).getCardsPlayer().size());
+        assertEquals(1, copy.getTable().getCardCount());
+        assertEquals(deck.size() + 2, copy.getDeck().size());
+        assertNotSame(humanPlayer, copy.getPlayer(0));
+    }
+}
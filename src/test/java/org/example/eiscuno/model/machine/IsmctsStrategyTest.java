@@ -0,0 +1,105 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code IsmctsStrategy} class.
+ */
+class IsmctsStrategyTest {
+
+    private Player humanPlayer;
+    private Player machinePlayer;
+    private GameUno gameUno;
+    private IsmctsStrategy strategy;
+
+    /**
+     * Deals a regular game and puts a blue 5 on the table.
+     */
+    @BeforeEach
+    void setUp() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        Table table = new Table();
+        gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), table);
+        gameUno.startGame();
+        table.addCardOnTheTable(Card.of(EISCUnoEnum.BLUE_5));
+        strategy = new IsmctsStrategy(100, ForkJoinPool.commonPool());
+    }
+
+    private void giveMachine(Card... cards) {
+        machinePlayer.removeAllCards();
+        for (Card card : cards) {
+            machinePlayer.addCard(card);
+        }
+    }
+
+    /**
+     * Tests that the machine draws when no card of its hand can be played.
+     */
+    @Test
+    void testDrawsWithoutPlayableCard() {
+        giveMachine(Card.of(EISCUnoEnum.RED_7));
+
+        assertTrue(strategy.chooseMove(gameUno, machinePlayer).isDraw());
+    }
+
+    /**
+     * Tests that the chosen move is always a legal play of a card in the machine's hand.
+     */
+    @Test
+    void testChoosesLegalCardWithinBudget() {
+        giveMachine(Card.of(EISCUnoEnum.RED_7),
+                Card.of(EISCUnoEnum.RED_5),
+                Card.of(EISCUnoEnum.BLUE_2));
+
+        long start = System.nanoTime();
+        MachineMove move = strategy.chooseMove(gameUno, machinePlayer);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(move.isDraw());
+        assertTrue(machinePlayer.getCardsPlayer().contains(move.getCard()));
+        assertNotEquals("7", move.getCard().getValue());
+        assertTrue(elapsedMillis < 1000, "The move took " + elapsedMillis + " ms");
+    }
+
+    /**
+     * Tests that after a WILD the search asks for the color of the rest of its hand.
+     */
+    @Test
+    void testWildAsksForUsefulColor() {
+        giveMachine(Card.of(EISCUnoEnum.WILD),
+                Card.of(EISCUnoEnum.RED_1),
+                Card.of(EISCUnoEnum.RED_2),
+                Card.of(EISCUnoEnum.RED_3));
+
+        MachineMove move = strategy.chooseMove(gameUno, machinePlayer);
+
+        assertEquals("WILD", move.getCard().getValue());
+        assertEquals(CardCode.RED, move.getColor());
+    }
+
+    /**
+     * Tests that the machine takes a win that is on the table.
+     */
+    @Test
+    void testPlaysWinningCard() {
+        giveMachine(Card.of(EISCUnoEnum.RED_7),
+                Card.of(EISCUnoEnum.SKIP_BLUE));
+
+        MachineMove move = strategy.chooseMove(gameUno, machinePlayer);
+
+        assertEquals("SKIP", move.getCard().getValue());
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.MoveResult;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.timer.TimerWheel;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code ThreadPlayMachine} class, run with no think time and without
+ * JavaFX: the moves are applied to the model directly by the test host.
+ */
+class ThreadPlayMachineTest {
+
+    private Player machinePlayer;
+    private Table table;
+    private GameUno gameUno;
+    private RecordingHost host;
+    private ThreadPlayMachine machine;
+
+    /**
+     * A host that applies the machine's moves with the rules engine and, while it has turns
+     * left, hands the turn straight back to the machine.
+     */
+    private class RecordingHost implements MachineTurnHost {
+        private final MoveResult result = new MoveResult();
+        private final CountDownLatch turnsLeft;
+        private int plays;
+        private int draws;
+
+        RecordingHost(int turns) {
+            this.turnsLeft = new CountDownLatch(turns);
+        }
+
+        @Override
+        public boolean hasGameEnded() {
+            return turnsLeft.getCount() == 0;
+        }
+
+        @Override
+        public void playMachineCard(Card card, int color) {
+            UnoRulesEngine.applyPlay(gameUno, machinePlayer, card, color, result);
+            plays++;
+            endTurn();
+        }
+
+        @Override
+        public void drawMachineCard() {
+            UnoRulesEngine.applyDraw(gameUno, machinePlayer, result);
+            draws++;
+            endTurn();
+        }
+
+        private void endTurn() {
+            turnsLeft.countDown();
+            if (!gameUno.isGameOver() && turnsLeft.getCount() > 0) {
+                machine.setMyTurn(true);
+            } else {
+                while (turnsLeft.getCount() > 0) {
+                    turnsLeft.countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts every test with a blue 5 on the table and an empty machine hand.
+     */
+    @BeforeEach
+    void setUp() {
+        machinePlayer = new Player("MACHINE_PLAYER");
+        table = new Table();
+        gameUno = new GameUno(new Player("HUMAN_PLAYER"), machinePlayer, new Deck(), table);
+        table.addCardOnTheTable(Card.of(EISCUnoEnum.BLUE_5));
+    }
+
+    private void startMachine(int turns) {
+        host = new RecordingHost(turns);
+        machine = new ThreadPlayMachine(gameUno, machinePlayer, new FirstPlayableStrategy(), host, Runnable::run,
+                MachineScheduler.shared(), TimerWheel.shared(), ThinkTime.ZERO, new SplittableRandom(1));
+    }
+
+    /**
+     * Tests that the machine plays a playable card of its hand.
+     */
+    @Test
+    void testPlaysPlayableCard() throws InterruptedException {
+        machinePlayer.addCard(Card.of(EISCUnoEnum.RED_7));
+        machinePlayer.addCard(Card.of(EISCUnoEnum.RED_5));
+        startMachine(1);
+
+        machine.setMyTurn(true);
+
+        assertTrue(host.turnsLeft.await(5, TimeUnit.SECONDS));
+        assertEquals(1, host.plays);
+        assertEquals("5", table.getCurrentCardOnTheTable().getValue());
+    }
+
+    /**
+     * Tests that after a WILD the machine asks for the color it holds most.
+     */
+    @Test
+    void testWildAsksForDominantColor() throws InterruptedException {
+        machinePlayer.addCard(Card.of(EISCUnoEnum.WILD));
+        machinePlayer.addCard(Card.of(EISCUnoEnum.RED_7));
+        machinePlayer.addCard(Card.of(EISCUnoEnum.YELLOW_3));
+        machinePlayer.addCard(Card.of(EISCUnoEnum.YELLOW_8));
+        startMachine(1);
+
+        machine.setMyTurn(true);
+
+        assertTrue(host.turnsLeft.await(5, TimeUnit.SECONDS));
+        assertEquals("WILD", table.getCurrentCardOnTheTable().getValue());
+        assertEquals("YELLOW", table.getActiveColor());
+    }
+
+    /**
+     * Tests that the machine draws when it has no playable card.
+     */
+    @Test
+    void testDrawsWithoutPlayableCard() throws InterruptedException {
+        machinePlayer.addCard(Card.of(EISCUnoEnum.RED_7));
+        startMachine(1);
+
+        machine.setMyTurn(true);
+
+        assertTrue(host.turnsLeft.await(5, TimeUnit.SECONDS));
+        assertEquals(1, host.draws);
+        assertEquals(2, machinePlayer.getCardsPlayer().size());
+    }
+
+    /**
+     * Tests that with no think time many turns take no noticeable wall-clock time.
+     */
+    @Test
+    void testZeroThinkTimePlaysManyTurnsQuickly() throws InterruptedException {
+        gameUno.startGame();
+        startMachine(60);
+
+        machine.setMyTurn(true);
+
+        assertTrue(host.turnsLeft.await(2, TimeUnit.SECONDS));
+        assertTrue(host.plays + host.draws > 0);
+    }
+
+    /**
+     * Tests that cancelling the turn keeps a pending move from being delivered.
+     */
+    @Test
+    void testCancelledTurnIsNotPlayed() throws InterruptedException {
+        machinePlayer.addCard(Card.of(EISCUnoEnum.RED_5));
+        host = new RecordingHost(1);
+        machine = new ThreadPlayMachine(gameUno, machinePlayer, new FirstPlayableStrategy(), host, Runnable::run,
+                MachineScheduler.shared(), TimerWheel.shared(), new ThinkTime(200, 0, 0),
+                new SplittableRandom(1));
+
+        machine.setMyTurn(true);
+        machine.setMyTurn(false);
+
+        assertFalse(host.turnsLeft.await(400, TimeUnit.MILLISECONDS));
+        assertEquals(0, host.plays);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.MoveResult;
+import org.example.eiscuno.model.rules.UnoRulesEngine;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code UnoWatcher} class.
+ */
+class UnoWatcherTest {
+
+    private Player humanPlayer;
+    private Player machinePlayer;
+    private GameUno gameUno;
+    private List<Player> lastCards;
+
+    /**
+     * Starts every test with a blue 5 on the table and both players watched.
+     */
+    @BeforeEach
+    void setUp() {
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        Table table = new Table();
+        gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), table);
+        table.addCardOnTheTable(Card.of(EISCUnoEnum.BLUE_5));
+        lastCards = new ArrayList<>();
+        new UnoWatcher(lastCards::add).watch(humanPlayer, machinePlayer);
+    }
+
+    /**
+     * Tests that the watcher fires as soon as a played card leaves one card in hand.
+     */
+    @Test
+    void testFiresWhenHandDropsToOneCard() {
+        Card redFive = Card.of(EISCUnoEnum.RED_5);
+        humanPlayer.addCard(redFive);
+        humanPlayer.addCard(Card.of(EISCUnoEnum.RED_7));
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, redFive, CardCode.NO_COLOR, new MoveResult());
+
+        assertEquals(List.of(humanPlayer), lastCards);
+    }
+
+    /**
+     * Tests that dealing and drawing never fire the watcher.
+     */
+    @Test
+    void testDealingAndDrawingDoNotFire() {
+        gameUno.startGame();
+        gameUno.eatCard(machinePlayer, 2);
+
+        assertTrue(lastCards.isEmpty());
+    }
+
+    /**
+     * Tests that a hand that grows again fires a second time when it drops back to one.
+     */
+    @Test
+    void testFiresAgainAfterDrawing() {
+        humanPlayer.addCard(Card.of(EISCUnoEnum.RED_5));
+        gameUno.eatCard(humanPlayer, 1);
+        humanPlayer.removeCard(1);
+        gameUno.eatCard(humanPlayer, 1);
+        humanPlayer.removeCard(1);
+
+        assertEquals(List.of(humanPlayer, humanPlayer), lastCards);
+    }
+}
@@ -1,39 +1,30 @@
 package org.example.eiscuno.model.player;
 
 import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.testfx.framework.junit5.ApplicationTest;
-import javafx.stage.Stage;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Unit tests for the {@code Player} class, utilizing TestFX to handle JavaFX components.
+ * Unit tests for the {@code Player} class. Cards hold no images, so no JavaFX
+ * environment is needed.
  */
-class PlayerTest extends ApplicationTest {
+class PlayerTest {
 
     private Player player;
     private Card card1;
     private Card card2;
 
-    /**
-     * The {@code start()} method from ApplicationTest initializes the JavaFX toolkit.
-     * This is where objects dependent on JavaFX, such as {@code Card} instances, should be created.
-     *
-     * @param stage The primary stage for the test application.
-     */
-    @Override
-    public void start(Stage stage) {
-        card1 = new Card("/org/example/eiscuno/cards-uno/1_blue.png", "1", "BLUE", "NUMBER");
-        card2 = new Card("/org/example/eiscuno/cards-uno/2_red.png", "2", "RED", "NUMBER");
-    }
-
     /**
      * This method runs before EACH test to reset the player's state, ensuring test isolation.
      */
     @BeforeEach
     void setUp() {
+        card1 = Card.of(EISCUnoEnum.BLUE_1);
+        card2 = Card.of(EISCUnoEnum.RED_2);
         player = new Player("HUMAN_PLAYER");
     }
 
@@ -67,6 +58,67 @@ class PlayerTest extends ApplicationTest {
     }
     
 
+    /**
+     * Tests that the face and color counts follow the cards added to and removed from the hand.
+     */
+    @Test
+    void testHandIndexFollowsCards() {
+        Card otherBlueOne = Card.of(EISCUnoEnum.BLUE_1, 1);
+        player.addCard(card1);
+        player.addCard(otherBlueOne);
+        player.addCard(card2);
+
+        assertEquals(2, player.countOf(card1.getCode()));
+        assertEquals(2, player.countOfColor(CardCode.BLUE));
+        assertEquals(1L << card1.getCode() | 1L << card2.getCode(), player.getPresentMask());
+
+        player.removeCard(player.indexOf(card1));
+        player.removeCard(player.indexOf(otherBlueOne));
+
+        assertEquals(0, player.countOf(card1.getCode()));
+        assertEquals(1L << card2.getCode(), player.getPresentMask());
+
+        player.removeAllCards();
+
+        assertEquals(0L, player.getPresentMask());
+        assertEquals(0, player.countOfColor(CardCode.RED));
+    }
+
+    /**
+     * Tests that the playable faces follow the color, the rank and the wild rules, and
+     * that the first playable card is found in hand order.
+     */
+    @Test
+    void testPlayableCards() {
+        Card wild = Card.of(EISCUnoEnum.WILD);
+        Card blueSeven = Card.of(EISCUnoEnum.BLUE_7);
+        byte redSeven = CardCode.of(CardCode.RED, 7);
+        player.addCard(card1);
+        player.addCard(card2);
+
+        assertFalse(player.hasPlayableCard(CardCode.of(CardCode.GREEN, 7), CardCode.GREEN));
+        assertNull(player.findPlayableCard(CardCode.of(CardCode.GREEN, 7), CardCode.GREEN));
+        assertSame(card2, player.findPlayableCard(redSeven, CardCode.RED));
+        assertSame(card1, player.findPlayableCard(CardCode.of(CardCode.GREEN, 1), CardCode.GREEN));
+
+        player.addCard(blueSeven);
+        player.addCard(wild);
+
+        assertEquals(1L << card2.getCode() | 1L << blueSeven.getCode() | 1L << wild.getCode(),
+                player.playableMask(redSeven, CardCode.RED));
+        assertSame(wild, player.findPlayableCard(CardCode.of(CardCode.GREEN, 5), CardCode.GREEN));
+    }
+
+    /**
+     * Tests that the hand cannot be changed behind the player's back.
+     */
+    @Test
+    void testCardsViewIsReadOnly() {
+        player.addCard(card1);
+
+        assertThrows(UnsupportedOperationException.class, () -> player.getCardsPlayer().clear());
+    }
+
     /**
      * Tests the {@code getTypePlayer()} method to ensure it returns the correct player type.
      */
@@ -74,4 +126,27 @@ class PlayerTest extends ApplicationTest {
     void testGetTypePlayer() {
         assertEquals("HUMAN_PLAYER", player.getTypePlayer());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that cards are found by position in the hand, and that removing a card keeps
+     * the order of the others and their positions.
+     */
+    @Test
+    void testRemovalKeepsHandOrder() {
+        Card wild = Card.of(EISCUnoEnum.WILD);
+        player.addCard(card1);
+        player.addCard(card2);
+        player.addCard(wild);
+
+        assertEquals(1, player.indexOf(card2));
+        assertEquals(-1, player.indexOf(Card.of(EISCUnoEnum.BLUE_1, 1)));
+
+        player.removeCard(0);
+
+        assertSame(card2, player.getCard(0));
+        assertSame(wild, player.getCard(1));
+        assertEquals(0, player.indexOf(card2));
+        assertEquals(1, player.indexOf(wild));
+        assertEquals(-1, player.indexOf(card1));
+    }
+}
@@ -0,0 +1,219 @@
+package org.example.eiscuno.model.rules;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code UnoRulesEngine} class. The engine has no JavaFX dependencies,
+ * so these tests run on a plain JVM.
+ */
+class UnoRulesEngineTest {
+
+    private Player humanPlayer;
+    private Player machinePlayer;
+    private Table table;
+    private GameUno gameUno;
+    private MoveResult result;
+
+    private Card blueFive;
+    private Card redFive;
+    private Card redSeven;
+    private Card blueSkip;
+    private Card blueDrawTwo;
+    private Card wild;
+
+    /**
+     * Starts every test with a blue 5 on the table and empty hands.
+     */
+    @BeforeEach
+    void setUp() {
+        blueFive = Card.of(EISCUnoEnum.BLUE_5);
+        redFive = Card.of(EISCUnoEnum.RED_5);
+        redSeven = Card.of(EISCUnoEnum.RED_7);
+        blueSkip = Card.of(EISCUnoEnum.SKIP_BLUE);
+        blueDrawTwo = Card.of(EISCUnoEnum.TWO_WILD_DRAW_BLUE);
+        wild = Card.of(EISCUnoEnum.WILD);
+        humanPlayer = new Player("HUMAN_PLAYER");
+        machinePlayer = new Player("MACHINE_PLAYER");
+        table = new Table();
+        gameUno = new GameUno(humanPlayer, machinePlayer, new Deck(), table);
+        table.addCardOnTheTable(blueFive);
+        result = new MoveResult();
+    }
+
+    /**
+     * Tests that a card is playable by color, by value or because it is wild.
+     */
+    @Test
+    void testIsValidPlay() {
+        assertTrue(UnoRulesEngine.isValidPlay(redFive, blueFive, "BLUE"));
+        assertTrue(UnoRulesEngine.isValidPlay(blueSkip, blueFive, "BLUE"));
+        assertTrue(UnoRulesEngine.isValidPlay(wild, blueFive, "BLUE"));
+        assertFalse(UnoRulesEngine.isValidPlay(redSeven, blueFive, "BLUE"));
+    }
+
+    /**
+     * Tests that an invalid play leaves the game untouched.
+     */
+    @Test
+    void testInvalidPlayIsRejected() {
+        humanPlayer.addCard(redSeven);
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, redSeven, CardCode.NO_COLOR, result);
+
+        assertFalse(result.isLegal());
+        assertEquals(1, humanPlayer.getCardsPlayer().size());
+        assertSame(blueFive, table.getCurrentCardOnTheTable());
+    }
+
+    /**
+     * Tests that a +2 makes the opponent draw two cards and passes the turn to them.
+     */
+    @Test
+    void testDrawTwoPenalizesOpponent() {
+        humanPlayer.addCard(blueDrawTwo);
+        humanPlayer.addCard(redSeven);
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, blueDrawTwo, CardCode.NO_COLOR, result);
+
+        assertTrue(result.isLegal());
+        assertEquals(CardEffect.DRAW_TWO, result.getEffect());
+        assertSame(machinePlayer, result.getPenalizedPlayer());
+        assertEquals(2, machinePlayer.getCardsPlayer().size());
+        assertSame(machinePlayer, result.getNextPlayer());
+        assertEquals("MACHINE_PLAYER", gameUno.getCurrentTurn());
+    }
+
+    /**
+     * Tests that a SKIP keeps the turn with the player who played it.
+     */
+    @Test
+    void testSkipKeepsTurn() {
+        humanPlayer.addCard(blueSkip);
+        humanPlayer.addCard(redSeven);
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, blueSkip, CardCode.NO_COLOR, result);
+
+        assertEquals(CardEffect.SKIP, result.getEffect());
+        assertSame(humanPlayer, result.getNextPlayer());
+    }
+
+    /**
+     * Tests that with two players a REVERSE acts as a SKIP.
+     */
+    @Test
+    void testReverseWithTwoPlayersKeepsTurn() {
+        Card blueReverse = Card.of(CardCode.faceOf(CardCode.of(CardCode.BLUE, CardCode.REVERSE)));
+        humanPlayer.addCard(blueReverse);
+        humanPlayer.addCard(redSeven);
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, blueReverse, CardCode.NO_COLOR, result);
+
+        assertEquals(CardEffect.REVERSE, result.getEffect());
+        assertSame(humanPlayer, result.getNextPlayer());
+        assertEquals(1, gameUno.getDirection());
+    }
+
+    /**
+     * Tests that with more players a REVERSE flips the order of play.
+     */
+    @Test
+    void testReverseWithThreePlayersFlipsDirection() {
+        Player third = new Player("MACHINE_PLAYER");
+        gameUno = new GameUno(new Player[]{humanPlayer, machinePlayer, third}, new Deck(), table);
+        Card blueReverse = Card.of(CardCode.faceOf(CardCode.of(CardCode.BLUE, CardCode.REVERSE)));
+        humanPlayer.addCard(blueReverse);
+        humanPlayer.addCard(redSeven);
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, blueReverse, CardCode.NO_COLOR, result);
+
+        assertEquals(-1, gameUno.getDirection());
+        assertSame(third, result.getNextPlayer());
+        assertEquals(2, gameUno.getCurrentSeat());
+    }
+
+    /**
+     * Tests that with more players a SKIP jumps over the next player only.
+     */
+    @Test
+    void testSkipWithThreePlayersJumpsNextPlayer() {
+        Player third = new Player("MACHINE_PLAYER");
+        gameUno = new GameUno(new Player[]{humanPlayer, machinePlayer, third}, new Deck(), table);
+        humanPlayer.addCard(blueSkip);
+        humanPlayer.addCard(redSeven);
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, blueSkip, CardCode.NO_COLOR, result);
+
+        assertSame(third, result.getNextPlayer());
+        assertEquals(2, gameUno.getCurrentSeat());
+    }
+
+    /**
+     * Tests that a WILD card enforces the chosen color, or reports it as pending.
+     */
+    @Test
+    void testWildSetsChosenColor() {
+        humanPlayer.addCard(wild);
+        humanPlayer.addCard(redSeven);
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, wild, CardCode.GREEN, result);
+
+        assertEquals("GREEN", table.getActiveColor());
+        assertFalse(result.isColorPending());
+
+        machinePlayer.addCard(wild);
+        UnoRulesEngine.applyPlay(gameUno, machinePlayer, wild, CardCode.NO_COLOR, result);
+        assertTrue(result.isColorPending());
+    }
+
+    /**
+     * Tests that playing the last card ends the game.
+     */
+    @Test
+    void testPlayingLastCardEndsGame() {
+        humanPlayer.addCard(redFive);
+
+        UnoRulesEngine.applyPlay(gameUno, humanPlayer, redFive, CardCode.NO_COLOR, result);
+
+        assertTrue(result.isGameOver());
+        assertTrue(gameUno.isGameOver());
+    }
+
+    /**
+     * Tests that drawing from an empty deck recycles the discard pile under its top card,
+     * and that the turn passes even when there is nothing left to draw.
+     */
+    @Test
+    void testDrawFromEmptyDeckRecyclesDiscardPile() {
+        Table discardPile = new Table();
+        discardPile.addCardOnTheTable(redSeven);
+        discardPile.addCardOnTheTable(redFive);
+        discardPile.addCardOnTheTable(blueFive);
+        GameUno game = new GameUno(humanPlayer, machinePlayer, new Deck(new ArrayList<>()), discardPile);
+
+        UnoRulesEngine.applyDraw(game, humanPlayer, result);
+
+        assertEquals(1, result.getCardsDrawn());
+        assertEquals(1, humanPlayer.getCardsPlayer().size());
+        assertSame(machinePlayer, result.getNextPlayer());
+        assertSame(blueFive, discardPile.getCurrentCardOnTheTable());
+        assertEquals(1, discardPile.getCardCount());
+
+        UnoRulesEngine.applyDraw(game, machinePlayer, result);
+        UnoRulesEngine.applyDraw(game, humanPlayer, result);
+
+        assertEquals(0, result.getCardsDrawn());
+        assertSame(machinePlayer, result.getNextPlayer());
+    }
+}
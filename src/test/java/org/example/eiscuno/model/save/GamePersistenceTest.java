@@ -0,0 +1,207 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code GamePersistence} and {@code MoveJournal} classes.
+ */
+class GamePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    private Path saveFile;
+    private GameUno gameUno;
+
+    /**
+     * Starts a game with five cards per player and one card on the table.
+     */
+    @BeforeEach
+    void setUp() {
+        saveFile = directory.resolve("uno_save.dat");
+        Deck deck = new Deck();
+        Table table = new Table();
+        gameUno = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"), deck, table);
+        gameUno.startGame();
+        table.addCardOnTheTable(deck.takeCard());
+    }
+
+    private void playSomeMoves() {
+        gameUno.playCardFromHand(gameUno.getHumanPlayer(), 2);
+        gameUno.setActiveColor(CardCode.BLUE);
+        gameUno.setCurrentTurn("MACHINE_PLAYER");
+        gameUno.eatCard(gameUno.getMachinePlayer(), 2);
+        gameUno.playCardFromHand(gameUno.getMachinePlayer(), 0);
+    }
+
+    private void assertSameGame(GameUno expected, GameUno actual) {
+        assertArrayEquals(expected.getDeck().toCardCodes(), actual.getDeck().toCardCodes());
+        assertArrayEquals(expected.getHumanPlayer().toCardCodes(), actual.getHumanPlayer().toCardCodes());
+        assertArrayEquals(expected.getMachinePlayer().toCardCodes(), actual.getMachinePlayer().toCardCodes());
+        assertArrayEquals(expected.getTable().toCardCodes(), actual.getTable().toCardCodes());
+        assertEquals(expected.getTable().getActiveColor(), actual.getTable().getActiveColor());
+        assertEquals(expected.getCurrentTurn(), actual.getCurrentTurn());
+    }
+
+    /**
+     * Tests that moves flushed to the journal are replayed even if the game was never closed.
+     */
+    @Test
+    void testJournalIsReplayedAfterCrash() throws IOException {
+        GamePersistence persistence = new GamePersistence(saveFile);
+        persistence.attach(gameUno);
+        playSomeMoves();
+        persistence.flush();
+
+        GameUno restored = new GamePersistence(saveFile).load();
+
+        assertSameGame(gameUno, restored);
+        persistence.close();
+    }
+
+    /**
+     * Tests that compaction writes a snapshot of a newer generation and that the moves
+     * already folded into it are not applied a second time.
+     */
+    @Test
+    void testCompactionDoesNotReplayMovesTwice() throws IOException {
+        GamePersistence persistence = new GamePersistence(saveFile, 3);
+        persistence.attach(gameUno);
+        playSomeMoves();
+        persistence.flush();
+
+        GameUno restored = new GamePersistence(saveFile).load();
+
+        assertSameGame(gameUno, restored);
+        persistence.close();
+    }
+
+    /**
+     * Tests that a recycled discard pile, whose new order cannot be replayed, is restored
+     * exactly together with the draws made after it.
+     */
+    @Test
+    void testRecycledDeckIsRestored() throws IOException {
+        GamePersistence persistence = new GamePersistence(saveFile);
+        persistence.attach(gameUno);
+        Deck deck = gameUno.getDeck();
+        while (!deck.isEmpty()) {
+            gameUno.getTable().addCardOnTheTable(deck.takeCard());
+        }
+        gameUno.eatCard(gameUno.getHumanPlayer(), 4);
+        gameUno.setCurrentTurn("MACHINE_PLAYER");
+        persistence.flush();
+
+        GameUno restored = new GamePersistence(saveFile).load();
+
+        assertSameGame(gameUno, restored);
+        persistence.close();
+    }
+
+    /**
+     * Tests that a journal left over from an older snapshot is ignored.
+     */
+    @Test
+    void testJournalOfAnotherGenerationIsIgnored() throws IOException {
+        GamePersistence persistence = new GamePersistence(saveFile);
+        persistence.attach(gameUno);
+        persistence.close();
+        byte[] snapshot = Files.readAllBytes(saveFile);
+        int before = gameUno.getHumanPlayer().getCardsPlayer().size();
+
+        persistence = new GamePersistence(saveFile);
+        persistence.attach(gameUno);
+        gameUno.eatCard(gameUno.getHumanPlayer(), 3);
+        persistence.flush();
+        Files.write(saveFile, snapshot); // The crash happened before the new snapshot was renamed
+
+        GameUno restored = new GamePersistence(saveFile).load();
+
+        assertEquals(before, restored.getHumanPlayer().getCardsPlayer().size());
+        persistence.close();
+    }
+
+    /**
+     * Tests that a record torn by a crash ends the replay without failing the load.
+     */
+    @Test
+    void testTornRecordEndsReplay() throws IOException {
+        GamePersistence persistence = new GamePersistence(saveFile);
+        persistence.attach(gameUno);
+        gameUno.setCurrentTurn("MACHINE_PLAYER");
+        persistence.flush();
+        Files.write(GamePersistence.journalPathFor(saveFile), new byte[]{MoveJournal.DRAW, 0},
+                StandardOpenOption.APPEND);
+
+        GameUno restored = new GamePersistence(saveFile).load();
+
+        assertEquals("MACHINE_PLAYER", restored.getCurrentTurn());
+        assertEquals(5, restored.getHumanPlayer().getCardsPlayer().size());
+        persistence.close();
+    }
+
+    /**
+     * Tests that a well-formed record that does not fit the game is reported as corruption.
+     */
+    @Test
+    void testInvalidRecordIsRejected() throws IOException {
+        GamePersistence persistence = new GamePersistence(saveFile);
+        persistence.attach(gameUno);
+        persistence.flush();
+        byte[] record = new byte[MoveJournal.RECORD_SIZE];
+        MoveJournal.encode(record, 0, MoveJournal.PLAY, 0, 40);
+        Files.write(GamePersistence.journalPathFor(saveFile), record, StandardOpenOption.APPEND);
+
+        assertThrows(CorruptSaveException.class, () -> new GamePersistence(saveFile).load());
+        persistence.close();
+    }
+
+    /**
+     * Tests that a compaction requested while a flush is writing the previous snapshot
+     * gets a newer generation, so the journal of one snapshot is never replayed on the other.
+     */
+    @Test
+    void testCompactionDuringFlushGetsNewGeneration() throws IOException {
+        GamePersistence persistence = new GamePersistence(saveFile);
+        persistence.attach(gameUno);
+        playSomeMoves();
+        persistence.onDeckRecycled();
+        persistence.afterSnapshotTaken = () -> {
+            persistence.afterSnapshotTaken = null;
+            gameUno.setCurrentTurn("HUMAN_PLAYER");
+            persistence.onDeckRecycled();
+        };
+
+        persistence.flush();
+        int first = snapshotGeneration();
+        persistence.flush();
+        int second = snapshotGeneration();
+
+        assertTrue(second > first, first + " then " + second);
+        assertSameGame(gameUno, new GamePersistence(saveFile).load());
+        persistence.close();
+    }
+
+    private int snapshotGeneration() throws IOException {
+        try (InputStream in = Files.newInputStream(saveFile)) {
+            GameSnapshotReader reader = new GameSnapshotReader(in);
+            reader.read();
+            return reader.getGeneration();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.eiscuno.model.save;
+
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.game.GameUno;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.table.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code GameSnapshotWriter} and {@code GameSnapshotReader} classes.
+ */
+class GameSnapshotTest {
+
+    private GameUno gameUno;
+
+    /**
+     * Starts a game with five cards per player and one card on the table.
+     */
+    @BeforeEach
+    void setUp() {
+        Deck deck = new Deck();
+        Table table = new Table();
+        gameUno = new GameUno(new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"), deck, table);
+        gameUno.startGame();
+        table.addCardOnTheTable(deck.takeCard());
+        gameUno.setCurrentTurn("MACHINE_PLAYER");
+    }
+
+    private byte[] save(GameUno game) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new GameSnapshotWriter(bytes).write(game);
+        return bytes.toByteArray();
+    }
+
+    private GameUno load(byte[] bytes) throws IOException {
+        return new GameSnapshotReader(new ByteArrayInputStream(bytes)).read();
+    }
+
+    /**
+     * Tests that a saved game is restored with the same cards, turn and active color.
+     */
+    @Test
+    void testRoundTripRestoresGame() throws IOException {
+        byte[] bytes = save(gameUno);
+        GameUno loaded = load(bytes);
+
+        assertArrayEquals(gameUno.getDeck().toCardCodes(), loaded.getDeck().toCardCodes());
+        assertArrayEquals(gameUno.getHumanPlayer().toCardCodes(), loaded.getHumanPlayer().toCardCodes());
+        assertArrayEquals(gameUno.getMachinePlayer().toCardCodes(), loaded.getMachinePlayer().toCardCodes());
+        assertArrayEquals(gameUno.getTable().toCardCodes(), loaded.getTable().toCardCodes());
+        assertEquals(gameUno.getTable().getActiveColor(), loaded.getTable().getActiveColor());
+        assertEquals("MACHINE_PLAYER", loaded.getCurrentTurn());
+        assertTrue(bytes.length < 200, "Snapshot takes " + bytes.length + " bytes");
+    }
+
+    /**
+     * Tests that a game of more than two players is restored with its seats, current seat
+     * and direction of play.
+     */
+    @Test
+    void testRoundTripRestoresSeatsAndDirection() throws IOException {
+        Deck deck = new Deck();
+        Table table = new Table();
+        GameUno game = new GameUno(new Player[]{new Player("HUMAN_PLAYER"), new Player("MACHINE_PLAYER"),
+                new Player("MACHINE_PLAYER"), new Player("MACHINE_PLAYER")}, deck, table);
+        game.startGame();
+        table.addCardOnTheTable(deck.takeCard());
+        game.reverseDirection();
+        game.setCurrentSeat(3);
+
+        GameUno loaded = load(save(game));
+
+        assertEquals(4, loaded.getSeatCount());
+        assertEquals(3, loaded.getCurrentSeat());
+        assertEquals(-1, loaded.getDirection());
+        for (int seat = 0; seat < game.getSeatCount(); seat++) {
+            assertEquals(game.getPlayer(seat).getTypePlayer(), loaded.getPlayer(seat).getTypePlayer());
+            assertArrayEquals(game.getPlayer(seat).toCardCodes(), loaded.getPlayer(seat).toCardCodes());
+        }
+    }
+
+    /**
+     * Tests that a single damaged byte is detected by the checksum.
+     */
+    @Test
+    void testCorruptedSnapshotIsRejected() throws IOException {
+        byte[] bytes = save(gameUno);
+        bytes[bytes.length / 2] ^= 0x01;
+
+        assertThrows(CorruptSaveException.class, () -> load(bytes));
+    }
+
+    /**
+     * Tests that truncated files and files in the old Java serialization format are rejected.
+     */
+    @Test
+    void testForeignAndTruncatedFilesAreRejected() throws IOException {
+        byte[] bytes = save(gameUno);
+        byte[] truncated = new byte[bytes.length - 3];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertThrows(CorruptSaveException.class, () -> load(truncated));
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(serialized)) {
+            oos.writeObject(gameUno);
+        }
+        assertThrows(CorruptSaveException.class, () -> load(serialized.toByteArray()));
+    }
+}
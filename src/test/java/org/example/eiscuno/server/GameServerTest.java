@@ -0,0 +1,143 @@
+package org.example.eiscuno.server;
+
+import org.example.eiscuno.model.card.CardCode;
+import org.example.eiscuno.model.machine.FirstPlayableStrategy;
+import org.example.eiscuno.model.machine.MachineMove;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code GameServer} class, played over the loopback interface with
+ * the {@code LoopbackClient}.
+ */
+class GameServerTest {
+
+    private GameServer server;
+
+    /**
+     * Starts a server on a free port.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(0, new FirstPlayableStrategy());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    private static TableState playToTheEnd(LoopbackClient client, TableState state) throws IOException {
+        for (int turn = 0; turn < 1000 && !state.isGameOver(); turn++) {
+            assertEquals(GameServer.CLIENT_SEAT, state.getCurrentSeat());
+            state = client.playFirstPlayable(state);
+        }
+        return state;
+    }
+
+    /**
+     * Tests that a new game is dealt with the client to move.
+     */
+    @Test
+    void testNewGameDealsHands() throws IOException {
+        try (LoopbackClient client = new LoopbackClient(server.getPort())) {
+            TableState state = client.newGame(4);
+
+            assertEquals(4, state.getSeatCount());
+            assertEquals(GameServer.CLIENT_SEAT, state.getSeat());
+            assertEquals(state.getHand().length, state.getHandSize(GameServer.CLIENT_SEAT));
+        }
+    }
+
+    /**
+     * Tests that a whole game can be played over the connection.
+     */
+    @Test
+    void testGameIsPlayedToTheEnd() throws IOException {
+        try (LoopbackClient client = new LoopbackClient(server.getPort())) {
+            TableState state = playToTheEnd(client, client.newGame(3));
+
+            assertTrue(state.isGameOver());
+            assertEquals(0, state.getHandSize(state.getWinner()));
+        }
+    }
+
+    /**
+     * Tests that bad requests are answered with an error and leave the connection usable.
+     */
+    @Test
+    void testInvalidRequestsAreRejected() throws IOException {
+        try (LoopbackClient client = new LoopbackClient(server.getPort())) {
+            ProtocolException noGame = assertThrows(ProtocolException.class, client::draw);
+            assertEquals(UnoProtocol.NO_GAME, noGame.getErrorCode());
+            ProtocolException badSeats = assertThrows(ProtocolException.class, () -> client.newGame(11));
+            assertEquals(UnoProtocol.BAD_REQUEST, badSeats.getErrorCode());
+
+            TableState state = client.newGame(2);
+            ProtocolException illegal = assertThrows(ProtocolException.class,
+                    () -> client.play(state.getHand().length, CardCode.NO_COLOR));
+            assertEquals(UnoProtocol.ILLEGAL_MOVE, illegal.getErrorCode());
+
+            assertNotNull(client.draw());
+        }
+    }
+
+    /**
+     * Tests that many clients play their own games at the same time.
+     */
+    @Test
+    void testConcurrentSessionsAreIndependent() throws Exception {
+        int clients = 32;
+        ExecutorService threads = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<TableState>> results = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                int seats = 2 + i % 4;
+                results.add(threads.submit(() -> {
+                    try (LoopbackClient client = new LoopbackClient(server.getPort())) {
+                        return playToTheEnd(client, client.newGame(seats));
+                    }
+                }));
+            }
+            for (int i = 0; i < clients; i++) {
+                TableState state = results.get(i).get();
+                assertTrue(state.isGameOver());
+                assertEquals(2 + i % 4, state.getSeatCount());
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that a machine choosing unplayable cards draws instead of stalling the server.
+     */
+    @Test
+    void testIllegalMachineMoveFallsBackToDraw() throws IOException {
+        try (GameServer careless = new GameServer(0,
+                (game, machine) -> MachineMove.play(machine.getCard(0), CardCode.RED))) {
+            careless.start();
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                try (LoopbackClient client = new LoopbackClient(careless.getPort())) {
+                    TableState state = client.newGame(2);
+                    for (int turn = 0; turn < 20 && !state.isGameOver(); turn++) {
+                        assertEquals(GameServer.CLIENT_SEAT, state.getCurrentSeat());
+                        state = client.draw();
+                    }
+                }
+            });
+        }
+    }
+}
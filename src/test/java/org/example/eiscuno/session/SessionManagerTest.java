@@ -0,0 +1,126 @@
+package org.example.eiscuno.session;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code SessionManager} and {@code GameSession} classes.
+ */
+class SessionManagerTest {
+
+    private SessionManager manager;
+
+    /**
+     * Starts every test with two carriers.
+     */
+    @BeforeEach
+    void setUp() {
+        manager = new SessionManager(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Tests that the commands of a session run one at a time and in the order each
+     * producer submitted them, even when many threads submit at once.
+     */
+    @Test
+    void testCommandsRunOneAtATimeInOrder() throws InterruptedException {
+        GameSession session = manager.open();
+        int producers = 4;
+        int commands = 10_000;
+        int[] lastSeen = new int[producers];
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers * commands);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 1; i <= commands; i++) {
+                    int sequence = i;
+                    session.execute(() -> {
+                        if (running.incrementAndGet() != 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        // Plain fields: the session guarantees a single writer.
+                        if (lastSeen[producer] != sequence - 1) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        lastSeen[producer] = sequence;
+                        running.decrementAndGet();
+                        done.countDown();
+                    });
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+        assertEquals(0, outOfOrder.get());
+    }
+
+    /**
+     * Tests that many more sessions than carriers all make progress.
+     */
+    @Test
+    void testManySessionsShareFewCarriers() throws InterruptedException {
+        int sessions = 2_000;
+        CountDownLatch done = new CountDownLatch(sessions * 3);
+        for (int i = 0; i < sessions; i++) {
+            GameSession session = manager.open();
+            for (int command = 0; command < 3; command++) {
+                session.execute(done::countDown);
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(sessions, manager.getSessionCount());
+    }
+
+    /**
+     * Tests that a failing command does not stop the session.
+     */
+    @Test
+    void testFailingCommandDoesNotStopSession() throws InterruptedException {
+        GameSession session = manager.open();
+        CountDownLatch done = new CountDownLatch(1);
+
+        session.execute(() -> {
+            throw new IllegalStateException("Expected by the test");
+        });
+        session.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that a closed session is forgotten and refuses new commands.
+     */
+    @Test
+    void testClosedSessionRejectsCommands() {
+        GameSession session = manager.open();
+
+        manager.close(session);
+
+        assertNull(manager.get(session.getId()));
+        assertTrue(session.isClosed());
+        assertThrows(RejectedExecutionException.class, () -> session.execute(() -> { }));
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.eiscuno.sim;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code TournamentSimulator} and {@code TournamentResult} classes.
+ */
+class TournamentSimulatorTest {
+
+    /**
+     * Tests that every requested game is played once and ends with a consistent record.
+     */
+    @Test
+    void testPlaysEveryGame() throws InterruptedException {
+        TournamentSimulator simulator = new TournamentSimulator(TournamentSimulator.parseStrategy("first"),
+                TournamentSimulator.parseStrategy("first"), 3);
+
+        TournamentResult result = simulator.run(500);
+
+        assertEquals(500, result.getGames());
+        assertEquals(500, result.getWinsA() + result.getWinsB() + result.getUnfinished());
+        assertTrue(result.getAverageTurns() > 5);
+        assertTrue(result.getGamesPerSecond() > 0);
+        assertTrue(result.getDeckExhaustionRate() >= 0 && result.getDeckExhaustionRate() <= 1);
+    }
+
+    /**
+     * Tests that a seeded tournament of deterministic strategies is reproduced exactly,
+     * whatever the number of threads.
+     */
+    @Test
+    void testSameSeedReplaysSameTournament() throws InterruptedException {
+        TournamentResult first = new TournamentSimulator(TournamentSimulator.parseStrategy("first"),
+                TournamentSimulator.parseStrategy("first"), 1, 42).run(300);
+        TournamentResult second = new TournamentSimulator(TournamentSimulator.parseStrategy("first"),
+                TournamentSimulator.parseStrategy("first"), 3, 42).run(300);
+
+        assertEquals(first.getWinsA(), second.getWinsA());
+        assertEquals(first.getWinsB(), second.getWinsB());
+        assertEquals(first.getAverageTurns(), second.getAverageTurns());
+        assertEquals(first.getDeckExhaustionRate(), second.getDeckExhaustionRate());
+    }
+
+    /**
+     * Tests that a search strategy can play against the easy one.
+     */
+    @Test
+    void testSearchStrategyPlaysFullGames() throws InterruptedException {
+        TournamentSimulator simulator = new TournamentSimulator(TournamentSimulator.parseStrategy("ismcts:1"),
+                TournamentSimulator.parseStrategy("first"), 2);
+
+        TournamentResult result = simulator.run(4);
+
+        assertEquals(4, result.getGames());
+    }
+
+    /**
+     * Tests the Wilson interval against known values.
+     */
+    @Test
+    void testWilsonInterval() {
+        TournamentResult result = new TournamentResult();
+        for (int i = 0; i < 100; i++) {
+            result.record(i < 50 ? 0 : 1, 10, false);
+        }
+
+        double[] interval = result.wilsonInterval(result.getWinsA());
+
+        assertEquals(0.4038, interval[0], 1e-3);
+        assertEquals(0.5962, interval[1], 1e-3);
+    }
+
+    /**
+     * Tests that unknown strategies are rejected.
+     */
+    @Test
+    void testUnknownStrategyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TournamentSimulator.parseStrategy("random"));
+    }
+}
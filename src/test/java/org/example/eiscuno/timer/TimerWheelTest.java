@@ -0,0 +1,102 @@
+package org.example.eiscuno.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@code TimerWheel} class. Each test uses its own timer with 1 ms ticks.
+ */
+class TimerWheelTest {
+
+    private TimerWheel timer;
+
+    /**
+     * Starts a fresh timer with a small wheel, so long delays take several rounds.
+     */
+    @BeforeEach
+    void setUp() {
+        timer = new TimerWheel(1, TimeUnit.MILLISECONDS, 16);
+    }
+
+    /**
+     * Stops the timer thread.
+     */
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    /**
+     * Tests that a task runs on its executor, not before its delay.
+     */
+    @Test
+    void testTaskRunsAfterItsDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        long start = System.nanoTime();
+
+        Timeout timeout = timer.schedule(fired::countDown, 50, TimeUnit.MILLISECONDS, task -> {
+            executed.incrementAndGet();
+            task.run();
+        });
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(1, executed.get());
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    /**
+     * Tests that a cancelled task never runs.
+     */
+    @Test
+    void testCancelledTaskNeverRuns() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+
+        Timeout timeout = timer.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS, Runnable::run);
+        timer.schedule(later::countDown, 60, TimeUnit.MILLISECONDS, Runnable::run);
+        assertTrue(timeout.cancel());
+
+        assertTrue(later.await(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+    }
+
+    /**
+     * Tests that many pending timeouts can be scheduled and cancelled, as a server with
+     * one penalty window per player would.
+     */
+    @Test
+    void testManyTimeoutsCanBeCancelled() throws InterruptedException {
+        int count = 200_000;
+        AtomicInteger runs = new AtomicInteger();
+        Timeout[] timeouts = new Timeout[count];
+        for (int i = 0; i < count; i++) {
+            timeouts[i] = timer.schedule(runs::incrementAndGet, 1_000 + i % 1_000, TimeUnit.MILLISECONDS,
+                    Runnable::run);
+        }
+        assertEquals(count, timer.getPendingCount());
+
+        for (int i = 0; i < count; i += 2) {
+            assertTrue(timeouts[i].cancel());
+        }
+        assertEquals(count / 2, timer.getPendingCount());
+
+        CountDownLatch done = new CountDownLatch(1);
+        timer.schedule(done::countDown, 2_100, TimeUnit.MILLISECONDS, Runnable::run);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(count / 2, runs.get());
+        assertEquals(0, timer.getPendingCount());
+    }
+}